@@ -86,7 +86,7 @@ tasks.register("packets") {
         outDir.mkdirs()
 
         subprojects
-            .filter { it.name != "api" }
+            .filter { it.name != "api" && it.name != "bench" && it.name != "processor" }
             .forEach { project ->
                 val jar = project.buildDir.resolve("libs/${rootProject.name}-${project.name}-${project.version}.jar")
                 if (jar.exists()) {
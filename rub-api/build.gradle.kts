@@ -3,4 +3,14 @@ dependencies {
     compileOnly(libs.bundles.adventure)
     compileOnly(libs.bundles.config)
     compileOnly(libs.slf4j)
-}
\ No newline at end of file
+
+    testCompileOnly(libs.jetanno)
+    testImplementation(libs.slf4j)
+    testImplementation(platform("org.junit:junit-bom:5.11.3"))
+    testImplementation("org.junit.jupiter:junit-jupiter")
+    testRuntimeOnly("org.junit.platform:junit-platform-launcher")
+}
+
+tasks.test {
+    useJUnitPlatform()
+}
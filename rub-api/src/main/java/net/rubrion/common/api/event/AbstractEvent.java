@@ -0,0 +1,105 @@
+/**
+ * RPL-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the RPL-LICENSE. <br>
+ * License at: <a href="https://github.com/rubrionmc/.github/blob/main/licensens/RUBRION_PUBLIC">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <leycm@proton.me> <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package net.rubrion.common.api.event;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Instant;
+
+/**
+ * Base class for events stamped by an {@link EventClock}.
+ * <p>
+ * The wall clock and monotonic stamps are taken once at creation and stored as primitives,
+ * so {@link #timestampNanos()} and {@link #ageNanos()} never allocate. The {@link Instant}
+ * returned by {@link #timestamp()} is created lazily from the stamp on first use.
+ * </p>
+ *
+ * @author LeyCM
+ * @since 1.1.2
+ * @see EventClock
+ */
+public abstract class AbstractEvent implements Event {
+    private EventClock clock;
+    private long timestampNanos;
+    private long monotonicNanos;
+    private Instant timestamp;
+
+    /**
+     * Creates a new event stamped by the {@linkplain EventClock#current() current} clock.
+     *
+     * @author LeyCM
+     * @since 1.1.2
+     */
+    protected AbstractEvent() {
+        stampNow();
+    }
+
+    /**
+     * Stamps this event again with the current time of the {@linkplain EventClock#current() current} clock.
+     * Meant for {@link net.rubrion.common.api.event.able.Poolable#reset()} of recycled events.
+     *
+     * @author LeyCM
+     * @since 1.1.2
+     */
+    protected void stamp() {
+        stampNow();
+    }
+
+    /**
+     * Takes the stamps, called by the constructor without going through the overridable {@link #stamp()}.
+     */
+    private void stampNow() {
+        EventClock clock = EventClock.current();
+        this.clock = clock;
+        this.timestampNanos = clock.epochNanos();
+        this.monotonicNanos = clock.monotonicNanos();
+        this.timestamp = null;
+    }
+
+    /**
+     * Returns the timestamp when this event was created, derived from {@link #timestampNanos()}.
+     *
+     * @return the instant when this event was created, never {@code null}
+     * @author LeyCM
+     * @since 1.1.2
+     */
+    @Override
+    public @NotNull Instant timestamp() {
+        Instant instant = timestamp;
+        if (instant == null) timestamp = instant = Instant.ofEpochSecond(0, timestampNanos);
+        return instant;
+    }
+
+    /**
+     * Returns the wall clock time when this event was created.
+     *
+     * @return the nanoseconds since 1970-01-01T00:00:00Z
+     * @author LeyCM
+     * @since 1.1.2
+     */
+    @Override
+    public long timestampNanos() {
+        return timestampNanos;
+    }
+
+    /**
+     * Returns the age of this event measured on the monotonic time of the clock that stamped it.
+     *
+     * @return the nanoseconds since this event was created
+     * @author LeyCM
+     * @since 1.1.2
+     */
+    @Override
+    public long ageNanos() {
+        return clock.monotonicNanos() - monotonicNanos;
+    }
+
+}
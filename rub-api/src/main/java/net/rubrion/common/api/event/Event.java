@@ -13,7 +13,6 @@ package net.rubrion.common.api.event;
 import net.rubrion.common.api.event.able.Cancelable;
 import net.rubrion.common.api.event.able.Monitorable;
 
-import java.time.Duration;
 import java.time.Instant;
 
 /**
@@ -90,21 +89,57 @@ public interface Event {
         return timestamp();
     }
 
+    /**
+     * Returns the wall clock time when this event was created.
+     * <p>
+     * By default this is derived from {@link #timestamp()}; {@link AbstractEvent} stores it
+     * as a primitive instead.
+     * </p>
+     *
+     * @return the nanoseconds since 1970-01-01T00:00:00Z
+     * @author LeyCM
+     * @since 1.1.2
+     * @see EventClock#epochNanos()
+     */
+    default long timestampNanos() {
+        return EventClock.epochNanos(timestamp());
+    }
+
+    /**
+     * Calculates the age of this event in nanoseconds without allocating.
+     * <p>
+     * By default the age is the difference between the wall clock time of the
+     * {@linkplain EventClock#current() current} clock and {@link #timestampNanos()}, and may
+     * therefore lag behind by the resolution of the clock. {@link AbstractEvent} measures it on
+     * the monotonic time instead.
+     * </p>
+     *
+     * @return the age of this event in nanoseconds, never negative
+     * @author LeyCM
+     * @since 1.1.2
+     * @see #timestampNanos()
+     */
+    default long ageNanos() {
+        return Math.max(0L, EventClock.current().epochNanos() - timestampNanos());
+    }
+
     /**
      * Calculates the age of this event in milliseconds.
      * <p>
      * The age is calculated as the duration between the event's timestamp and the current time.
      * This can be useful for event timing analysis and performance monitoring.
+     * It is derived from {@link #ageNanos()} and does not allocate, so unless that is overridden
+     * it may lag behind by the resolution of the {@linkplain EventClock#current() current} clock
+     * and is never negative.
      * </p>
      *
      * @return the age of this event in milliseconds
      * @author LeyCM
      * @since 1.1.2
      * @see #timestamp()
-     * @see Duration
      */
     default long age() {
-        return Duration.between(timestamp(), Instant.now()).toMillis();
+        return ageNanos() / 1_000_000L;
     }
 
     /**
@@ -0,0 +1,195 @@
+/**
+ * RPL-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the RPL-LICENSE. <br>
+ * License at: <a href="https://github.com/rubrionmc/.github/blob/main/licensens/RUBRION_PUBLIC">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <leycm@proton.me> <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package net.rubrion.common.api.event;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Source of the timestamps of events.
+ * <p>
+ * A clock provides two primitive readings: the wall clock time as nanoseconds since the epoch,
+ * used for {@link Event#timestampNanos()}, and a monotonic time used to measure the
+ * {@link Event#ageNanos() age} of an event, which never goes backwards when the system time
+ * is adjusted. Neither reading allocates.
+ * </p>
+ * <p>
+ * The {@linkplain #current() current} clock defaults to a {@linkplain #coarse(Duration) coarse}
+ * clock with one millisecond resolution, whose wall clock time is cached by a ticker thread,
+ * so stamping an event costs a single volatile read. The ticker is started on the first read,
+ * not when this class is initialized.
+ * </p>
+ *
+ * @author LeyCM
+ * @since 1.1.2
+ * @see AbstractEvent
+ */
+public abstract class EventClock {
+    private static final Map<Long, Coarse> COARSE = new ConcurrentHashMap<>();
+    private static volatile EventClock current = coarse(Duration.ofMillis(1));
+
+    /**
+     * Creates a new clock.
+     *
+     * @author LeyCM
+     * @since 1.1.2
+     */
+    protected EventClock() { }
+
+    /**
+     * Returns the wall clock time.
+     *
+     * @return the nanoseconds since 1970-01-01T00:00:00Z
+     * @author LeyCM
+     * @since 1.1.2
+     */
+    public abstract long epochNanos();
+
+    /**
+     * Returns the monotonic time. Only the difference between two readings of the same clock is meaningful.
+     *
+     * @return the monotonic time in nanoseconds
+     * @author LeyCM
+     * @since 1.1.2
+     */
+    public abstract long monotonicNanos();
+
+    /**
+     * Returns the clock used to stamp new events.
+     *
+     * @return the current clock
+     * @author LeyCM
+     * @since 1.1.2
+     */
+    public static @NotNull EventClock current() {
+        return current;
+    }
+
+    /**
+     * Replaces the clock used to stamp new events. Events created before keep their clock.
+     *
+     * @param clock the clock to use, must not be {@code null}
+     * @author LeyCM
+     * @since 1.1.2
+     */
+    public static void install(@NotNull EventClock clock) {
+        current = clock;
+    }
+
+    /**
+     * Returns a clock reading the system time on every call.
+     *
+     * @return a precise clock based on {@link System#currentTimeMillis()} and {@link System#nanoTime()}
+     * @author LeyCM
+     * @since 1.1.2
+     */
+    public static @NotNull EventClock system() {
+        return Precise.INSTANCE;
+    }
+
+    /**
+     * Returns a clock whose wall clock time is refreshed by a daemon ticker thread once per
+     * {@code resolution}. The monotonic time is read from {@link System#nanoTime()}.
+     * <p>
+     * Calls with the same resolution return the same clock, so at most one ticker thread runs
+     * per resolution. The ticker is started by the first read of the wall clock time and keeps
+     * running for the lifetime of the JVM.
+     * </p>
+     *
+     * @param resolution the interval between two updates of the wall clock time, must be positive
+     * @return the coarse clock of {@code resolution}
+     * @throws IllegalArgumentException if {@code resolution} is not positive
+     * @author LeyCM
+     * @since 1.1.2
+     */
+    public static @NotNull EventClock coarse(@NotNull Duration resolution) {
+        if (resolution.isNegative() || resolution.isZero()) throw new IllegalArgumentException("resolution must be positive");
+        return COARSE.computeIfAbsent(resolution.toNanos(), Coarse::new);
+    }
+
+    /**
+     * Converts an instant to nanoseconds since the epoch.
+     *
+     * @param instant the instant to convert
+     * @return the nanoseconds since 1970-01-01T00:00:00Z
+     */
+    static long epochNanos(@NotNull Instant instant) {
+        return instant.getEpochSecond() * 1_000_000_000L + instant.getNano();
+    }
+
+    /**
+     * Clock reading the system time on every call.
+     */
+    private static final class Precise extends EventClock {
+        private static final Precise INSTANCE = new Precise();
+
+        @Override
+        public long epochNanos() {
+            return System.currentTimeMillis() * 1_000_000L;
+        }
+
+        @Override
+        public long monotonicNanos() {
+            return System.nanoTime();
+        }
+    }
+
+    /**
+     * Clock caching the wall clock time, refreshed by a ticker thread started on first read.
+     */
+    private static final class Coarse extends EventClock {
+        private final long resolution;
+        private volatile long epochNanos;
+
+        private Coarse(long resolution) {
+            this.resolution = resolution;
+        }
+
+        @Override
+        public long epochNanos() {
+            long nanos = epochNanos;
+            return nanos != 0 ? nanos : start();
+        }
+
+        /**
+         * Starts the ticker unless another thread did already.
+         *
+         * @return the current wall clock time
+         */
+        private synchronized long start() {
+            if (epochNanos != 0) return epochNanos;
+
+            epochNanos = epochNanos(Instant.now());
+            Thread ticker = new Thread(() -> {
+                while (true) {
+                    // a pending interrupt would make parkNanos return at once, the clock must keep ticking
+                    Thread.interrupted();
+                    LockSupport.parkNanos(resolution);
+                    epochNanos = epochNanos(Instant.now());
+                }
+            }, "rub-clock");
+            ticker.setDaemon(true);
+            ticker.start();
+            return epochNanos;
+        }
+
+        @Override
+        public long monotonicNanos() {
+            return System.nanoTime();
+        }
+    }
+
+}
@@ -0,0 +1,43 @@
+/**
+ * RPL-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the RPL-LICENSE. <br>
+ * License at: <a href="https://github.com/rubrionmc/.github/blob/main/licensens/RUBRION_PUBLIC">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <leycm@proton.me> <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package net.rubrion.common.api.event.able;
+
+import net.rubrion.common.api.event.Event;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Interface for keyed events whose pending instances can be merged into one.
+ * Coalescable events submitted to an {@link net.rubrion.common.api.event.registry.EventCoalescer}
+ * wait until the next flush, and a newer event with the same {@link #key()} replaces or merges
+ * with the pending one instead of being fired separately.
+ *
+ * @param <E> the type of event that implements this interface, must extend {@link Event}
+ * @author LeyCM
+ * @since 1.1.2
+ * @see net.rubrion.common.api.event.registry.EventCoalescer
+ */
+public interface Coalescable<E extends Event> extends Keyed {
+
+    /**
+     * Merges this event with the pending event of the same type and key.
+     * By default this event replaces the pending one, so only the latest state is fired.
+     *
+     * @param previous the pending event submitted before this one
+     * @return the event to keep pending, usually this event or a merge of both
+     * @author LeyCM
+     * @since 1.1.2
+     */
+    @SuppressWarnings("unchecked")
+    default @NotNull E coalesce(@NotNull E previous) {
+        return (E) this;
+    }
+
+}
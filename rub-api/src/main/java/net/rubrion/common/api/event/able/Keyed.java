@@ -0,0 +1,39 @@
+/**
+ * RPL-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the RPL-LICENSE. <br>
+ * License at: <a href="https://github.com/rubrionmc/.github/blob/main/licensens/RUBRION_PUBLIC">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <leycm@proton.me> <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package net.rubrion.common.api.event.able;
+
+import net.rubrion.common.api.id.Identifier;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Interface that defines events routed by a key.
+ * Handlers registered for a key through
+ * {@link net.rubrion.common.api.event.registry.EventBus#register(net.rubrion.common.api.event.handler.HandlerList, Identifier)}
+ * only receive events whose {@link #key()} equals that key, while handlers registered without
+ * a key receive all events as usual.
+ *
+ * @author LeyCM
+ * @since 1.1.2
+ */
+public interface Keyed {
+
+    /**
+     * Returns the routing key of this event, for example the {@link net.rubrion.common.api.id.UniqueId}
+     * of the player or the {@link net.rubrion.common.api.id.NamespacedId} of the arena it concerns.
+     * The key must not change while the event is fired.
+     *
+     * @return the routing key, compared with {@code equals} and {@code hashCode}
+     * @author LeyCM
+     * @since 1.1.2
+     */
+    @NotNull Identifier<?> key();
+
+}
@@ -0,0 +1,53 @@
+/**
+ * RPL-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the RPL-LICENSE. <br>
+ * License at: <a href="https://github.com/rubrionmc/.github/blob/main/licensens/RUBRION_PUBLIC">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <leycm@proton.me> <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package net.rubrion.common.api.event.able;
+
+/**
+ * Interface for events whose instances are recycled by an
+ * {@link net.rubrion.common.api.event.registry.EventPool}.
+ * Once {@link net.rubrion.common.api.event.registry.EventBus#fire(net.rubrion.common.api.event.Event)}
+ * completes, a pooled event is reset and handed out again, so handlers must not keep a reference
+ * to it unless they {@link #retain() retain} it.
+ *
+ * @author LeyCM
+ * @since 1.1.2
+ * @see net.rubrion.common.api.event.registry.EventPool
+ */
+public interface Poolable {
+
+    /**
+     * Clears all state of this event before it is reused.
+     * Called by the pool, never while the event is fired.
+     *
+     * @author LeyCM
+     * @since 1.1.2
+     */
+    void reset();
+
+    /**
+     * Keeps this event out of its pool, so it stays valid after firing.
+     * Handlers storing the event beyond their call must retain it.
+     *
+     * @author LeyCM
+     * @since 1.1.2
+     */
+    void retain();
+
+    /**
+     * Checks if this event was retained.
+     *
+     * @return {@code true} if the event is never returned to its pool
+     * @author LeyCM
+     * @since 1.1.2
+     */
+    boolean isRetained();
+
+}
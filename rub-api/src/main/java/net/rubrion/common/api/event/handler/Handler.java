@@ -17,6 +17,11 @@ import java.lang.annotation.*;
 /**
  * Annotation to mark methods as event handlers.
  * Methods annotated with {@code @Handler} will be automatically registered as event handlers.
+ * <p>
+ * A handler takes either a single event or a {@code List<E>} of events. List handlers are
+ * batch handlers: {@link net.rubrion.common.api.event.registry.EventBus#fireAll(java.util.Collection)}
+ * passes them all events of one type at once, while single fires pass a one element list.
+ * </p>
  *
  * @author LeyCM
  * @since 1.1.2
@@ -36,4 +41,29 @@ public @interface Handler {
      */
     HandlerPriority level() default HandlerPriority.NORMAL;
 
+    /**
+     * Whether this handler is skipped for canceled events.
+     * If {@code true}, the handler is not invoked once a
+     * {@link net.rubrion.common.api.event.able.Cancelable} event has been canceled by a handler
+     * of an earlier priority level. Has no effect on {@link HandlerPriority#MONITOR} handlers.
+     * Defaults to {@code false}.
+     *
+     * @return {@code true} to skip canceled events
+     * @since 1.1.2
+     */
+    boolean ignoreCanceled() default false;
+
+    /**
+     * Whether this handler may run concurrently with the other parallel handlers of its level.
+     * If {@code true}, the handler is forked onto the parallel pool of the
+     * {@link net.rubrion.common.api.event.registry.EventBus} after the other handlers of its level
+     * ran, and all forked handlers are joined before the next level starts. Parallel handlers
+     * must only read the event. Has no effect on {@link HandlerPriority#MONITOR} handlers.
+     * Defaults to {@code false}.
+     *
+     * @return {@code true} to run the handler in parallel
+     * @since 1.1.2
+     */
+    boolean parallel() default false;
+
 }
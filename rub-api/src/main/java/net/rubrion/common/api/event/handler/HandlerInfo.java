@@ -11,12 +11,17 @@
 package net.rubrion.common.api.event.handler;
 
 import net.rubrion.common.api.event.Event;
+import net.rubrion.common.api.event.able.Cancelable;
 import net.rubrion.common.api.event.able.Monitorable;
 import net.rubrion.common.api.event.exception.EventRegistrationException;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 
 import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.WildcardType;
+import java.util.List;
 
 /**
  * Represents information about an event handler, including the event type it handles
@@ -25,41 +30,135 @@ import java.lang.reflect.Method;
  * This record encapsulates the metadata extracted from methods annotated with {@link Handler},
  * providing a type-safe way to manage event handler registration and execution order.
  * </p>
+ * <p>
+ * The {@code type} is either a subclass of {@link Event} or one of the marker interfaces of
+ * {@code net.rubrion.common.api.event.able} such as {@link Cancelable}, which are not subtypes
+ * of {@link Event}; it is therefore declared as {@code Class<?>}. Any other type is rejected
+ * on construction.
+ * </p>
  *
- * @param type  the class of the event that this handler processes, must extend {@link Event}
+ * @param type  the event type this handler processes, see {@link #isEventType(Class)}
  * @param level the priority level of this handler, determining execution order
+ * @param ignoreCanceled whether the handler is skipped once a cancelable event has been canceled
+ * @param parallel whether the handler may run concurrently with the other parallel handlers of its level
  *
  * @author LeyCM
  * @since 1.1.2
  */
-public record HandlerInfo(Class<? extends Event> type, HandlerPriority level) {
+public record HandlerInfo(Class<?> type, HandlerPriority level, boolean ignoreCanceled, boolean parallel) {
+    private static final String MARKERS = Cancelable.class.getPackageName();
+
+    /**
+     * Creates a new {@code HandlerInfo}.
+     *
+     * @throws EventRegistrationException if {@code type} is not a valid {@linkplain #isEventType(Class) event type}
+     * @author LeyCM
+     * @since 1.1.2
+     */
+    public HandlerInfo {
+        if (!isEventType(type))
+            throw new EventRegistrationException("Handler type must be a subclass of Event or a marker interface of " +
+                    MARKERS + ": " + type.getName());
+    }
+
+    /**
+     * Creates a new {@code HandlerInfo} for a handler that runs on the firing thread.
+     *
+     * @param type the event type this handler processes
+     * @param level the priority level of this handler
+     * @param ignoreCanceled whether the handler is skipped once a cancelable event has been canceled
+     * @author LeyCM
+     * @since 1.1.2
+     */
+    public HandlerInfo(Class<?> type, HandlerPriority level, boolean ignoreCanceled) {
+        this(type, level, ignoreCanceled, false);
+    }
+
+    /**
+     * Creates a new {@code HandlerInfo} for a handler that also receives canceled events.
+     *
+     * @param type the event type this handler processes
+     * @param level the priority level of this handler
+     * @author LeyCM
+     * @since 1.1.2
+     */
+    public HandlerInfo(Class<?> type, HandlerPriority level) {
+        this(type, level, false, false);
+    }
 
     /**
      * Creates a new {@code HandlerInfo} instance from a method annotated with {@link Handler}.
      * <p>
-     * This factory method extracts the event type from the first parameter of the method
-     * and the priority level from the {@link Handler} annotation. It performs validation
-     * to ensure the method parameter is a valid event type.
+     * This factory method extracts the event type from the first parameter of the method,
+     * or from its type argument for {@linkplain #isBatch(Method) batch handlers}, and the priority level and cancellation behaviour from the {@link Handler} annotation.
+     * It performs validation to ensure the method parameter is a valid {@linkplain #isEventType(Class) event type}.
      * </p>
      *
      * @param method the method annotated with {@link Handler}, must not be {@code null}
      * @return a new {@code HandlerInfo} instance with the extracted event type and priority level
-     * @throws EventRegistrationException if the method's first parameter is not a subclass of {@link Event}
+     * @throws EventRegistrationException if the method's first parameter is neither a subclass of {@link Event}
+     *         nor a marker interface of {@code net.rubrion.common.api.event.able}
      * @throws IllegalArgumentException if the method is not properly annotated with {@link Handler}
      */
     @Contract("_ -> new")
     public static @NotNull HandlerInfo of(@NotNull Method method) {
-        HandlerPriority level = method.getAnnotation(Handler.class).level();
-        Class<?> type = method.getParameterTypes()[0];
+        Handler handler = method.getAnnotation(Handler.class);
+        Class<?> type = isBatch(method) ? batchType(method) : method.getParameterTypes()[0];
 
-        if (!Event.class.isAssignableFrom(type))
+        if (!isEventType(type))
             throw new EventRegistrationException(
-                    "Handler method parameter must be a subclass of Event. Method: " +
+                    "Handler method parameter must be a subclass of Event or a marker interface of " + MARKERS + ". Method: " +
                             method.getName() + " in " + method.getDeclaringClass().getSimpleName()
             );
 
-        //noinspection unchecked
-        return new HandlerInfo((Class<? extends Event>) type, level);
+        return new HandlerInfo(type, handler.level(), handler.ignoreCanceled(), handler.parallel());
+    }
+
+    /**
+     * Checks if handlers may be declared for the given type.
+     *
+     * @param type the declared handler parameter type, must not be {@code null}
+     * @return {@code true} if {@code type} is {@link Event} or a subtype of it, or one of the marker
+     *         interfaces of {@code net.rubrion.common.api.event.able} such as {@link Cancelable}
+     * @author LeyCM
+     * @since 1.1.2
+     */
+    public static boolean isEventType(@NotNull Class<?> type) {
+        return Event.class.isAssignableFrom(type) || type.isInterface() && type.getPackageName().equals(MARKERS);
+    }
+
+    /**
+     * Checks if the given handler method is a batch handler, that is, it takes a {@code List<E>}
+     * instead of a single event.
+     *
+     * @param method the handler method, must not be {@code null}
+     * @return {@code true} if the single parameter of the method is a {@link List}
+     * @author LeyCM
+     * @since 1.1.2
+     */
+    public static boolean isBatch(@NotNull Method method) {
+        return method.getParameterCount() == 1 && method.getParameterTypes()[0] == List.class;
+    }
+
+    /**
+     * Resolves the element type of a batch handler parameter.
+     *
+     * @param method the batch handler method
+     * @return the event type of the list elements
+     * @throws EventRegistrationException if the list is raw or its element type is not a class
+     */
+    private static @NotNull Class<?> batchType(@NotNull Method method) {
+        Type parameter = method.getGenericParameterTypes()[0];
+        if (parameter instanceof ParameterizedType generic) {
+            Type element = generic.getActualTypeArguments()[0];
+            if (element instanceof WildcardType wildcard) element = wildcard.getUpperBounds()[0];
+            if (element instanceof Class<?> type) return type;
+        }
+
+        throw new EventRegistrationException(
+                "Batch handler parameter must be a List of an event type. Method: " +
+                        method.getName() + " in " + method.getDeclaringClass().getSimpleName()
+        );
     }
 
     /**
@@ -81,5 +180,29 @@ public record HandlerInfo(Class<? extends Event> type, HandlerPriority level) {
         return level().isMonitor() && !Monitorable.class.isAssignableFrom(type());
     }
 
+    /**
+     * Checks if this handler must be skipped for canceled events.
+     * Monitor handlers always run, regardless of {@link #ignoreCanceled()}.
+     *
+     * @return {@code true} if the handler is skipped once the event is canceled
+     * @author LeyCM
+     * @since 1.1.2
+     */
+    public boolean skipsCanceled() {
+        return ignoreCanceled() && !level().isMonitor();
+    }
+
+    /**
+     * Checks if this handler is forked in parallel with the other parallel handlers of its level.
+     * Monitor handlers are never forked, regardless of {@link #parallel()}.
+     *
+     * @return {@code true} if the handler runs on the parallel pool
+     * @author LeyCM
+     * @since 1.1.2
+     */
+    public boolean forksParallel() {
+        return parallel() && !level().isMonitor();
+    }
+
 }
 
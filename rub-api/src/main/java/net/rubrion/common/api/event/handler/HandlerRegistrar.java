@@ -0,0 +1,84 @@
+/**
+ * RPL-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the RPL-LICENSE. <br>
+ * License at: <a href="https://github.com/rubrionmc/.github/blob/main/licensens/RUBRION_PUBLIC">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <leycm@proton.me> <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package net.rubrion.common.api.event.handler;
+
+import net.rubrion.common.api.event.Event;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Reflection-free registration of the {@link Handler} methods of one {@link HandlerList} class.
+ * <p>
+ * Implementations are generated at compile time by the {@code rub-processor} annotation
+ * processor under the binary name of the handler list followed by {@value #SUFFIX}. When the
+ * {@link net.rubrion.common.api.event.registry.EventBus} registers a handler list, it uses
+ * the generated registrar of its class if there is one and falls back to scanning the class
+ * by reflection otherwise. Generated handlers call the handler methods directly, so neither
+ * registration nor firing needs reflective access.
+ * </p>
+ *
+ * @param <L> the handler list type this registrar registers
+ * @author LeyCM
+ * @since 1.1.2
+ * @see net.rubrion.common.api.event.registry.EventBus#register(HandlerList)
+ */
+public interface HandlerRegistrar<L extends HandlerList> {
+
+    /**
+     * The suffix appended to the binary name of a handler list to name its generated registrar.
+     */
+    String SUFFIX = "$$Registrar";
+
+    /**
+     * Passes every handler of the given list to the sink.
+     *
+     * @param list the handler list instance to register
+     * @param sink the target receiving the handlers
+     * @author LeyCM
+     * @since 1.1.2
+     */
+    void register(@NotNull L list, @NotNull Sink sink);
+
+    /**
+     * Receives the handlers of a {@link HandlerRegistrar}.
+     *
+     * @author LeyCM
+     * @since 1.1.2
+     */
+    interface Sink {
+
+        /**
+         * Registers a handler taking a single event.
+         *
+         * @param name the name of the handler method
+         * @param info the event type, level and cancellation behaviour of the handler
+         * @param handler the handler calling the method directly
+         * @author LeyCM
+         * @since 1.1.2
+         */
+        void handler(@NotNull String name, @NotNull HandlerInfo info, @NotNull Consumer<Event> handler);
+
+        /**
+         * Registers a batch handler taking a {@code List<E>} of events.
+         *
+         * @param name the name of the handler method
+         * @param info the element type, level and cancellation behaviour of the handler
+         * @param handler the handler calling the method directly
+         * @author LeyCM
+         * @since 1.1.2
+         */
+        void batch(@NotNull String name, @NotNull HandlerInfo info, @NotNull Consumer<List<Event>> handler);
+
+    }
+
+}
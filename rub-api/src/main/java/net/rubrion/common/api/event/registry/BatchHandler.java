@@ -0,0 +1,37 @@
+/**
+ * RPL-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the RPL-LICENSE. <br>
+ * License at: <a href="https://github.com/rubrionmc/.github/blob/main/licensens/RUBRION_PUBLIC">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <leycm@proton.me> <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package net.rubrion.common.api.event.registry;
+
+import net.rubrion.common.api.event.Event;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Handler that can process a whole batch of events in one call.
+ * {@link EventExecutor#fireAll(List)} passes every batch to {@link #acceptAll(List)} instead
+ * of calling {@link #accept(Object)} once per event.
+ *
+ * @author LeyCM
+ * @since 1.1.2
+ * @see BatchInvoker
+ */
+interface BatchHandler extends Consumer<Event> {
+
+    /**
+     * Handles all events of a batch.
+     *
+     * @param events the events, must not be modified
+     */
+    void acceptAll(@NotNull List<Event> events);
+
+}
@@ -0,0 +1,190 @@
+/**
+ * RPL-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the RPL-LICENSE. <br>
+ * License at: <a href="https://github.com/rubrionmc/.github/blob/main/licensens/RUBRION_PUBLIC">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <leycm@proton.me> <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package net.rubrion.common.api.event.registry;
+
+import net.rubrion.common.api.event.Event;
+import net.rubrion.common.api.event.exception.EventRegistrationException;
+import net.rubrion.common.api.event.exception.ProcessHandlerException;
+import net.rubrion.common.api.event.handler.Handler;
+import net.rubrion.common.api.event.handler.HandlerInfo;
+import net.rubrion.common.api.event.handler.HandlerList;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Method;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.Consumer;
+
+/**
+ * Directly invokable wrapper around a batch {@link Handler} method taking a {@code List<E>}.
+ * <p>
+ * Batch handlers receive every event of one type and priority level from
+ * {@link EventBus#fireAll(java.util.Collection)} in a single call, so they can process the
+ * whole batch at once. Events fired one by one are passed as a single element list, reused
+ * per thread so single fires do not allocate; handlers must not keep the list after returning.
+ * The method is compiled exactly like a {@link HandlerInvoker}.
+ * </p>
+ *
+ * @author LeyCM
+ * @since 1.1.2
+ * @see HandlerInfo#isBatch(Method)
+ */
+public final class BatchInvoker implements BatchHandler {
+    private static final ThreadLocal<Single> SINGLE = ThreadLocal.withInitial(Single::new);
+
+    private final Class<?> owner;
+    private final String name;
+    private final Method method;
+    private final Consumer<List<Event>> target;
+
+    @SuppressWarnings("unchecked")
+    private BatchInvoker(@NotNull Class<?> owner, @NotNull String name, @Nullable Method method,
+                         @NotNull Consumer<?> target) {
+        this.owner = owner;
+        this.name = name;
+        this.method = method;
+        this.target = (Consumer<List<Event>>) target;
+    }
+
+    /**
+     * Compiles the given batch handler method bound to the given listener instance.
+     *
+     * @param method the handler method, must take exactly one {@link List} parameter
+     * @param ob the listener instance declaring the method, ignored for static methods
+     * @return a new invoker calling {@code method} on {@code ob}
+     * @throws EventRegistrationException if the method cannot be made invokable
+     * @author LeyCM
+     * @since 1.1.2
+     */
+    @Contract("_, _ -> new")
+    public static @NotNull BatchInvoker of(@NotNull Method method, HandlerList ob) {
+        return new BatchInvoker(method.getDeclaringClass(), method.getName(), method, HandlerInvoker.compile(method, ob));
+    }
+
+    /**
+     * Wraps a batch handler generated by a {@link net.rubrion.common.api.event.handler.HandlerRegistrar},
+     * which calls its handler method directly.
+     *
+     * @param owner the class declaring the handler method
+     * @param name the name of the handler method
+     * @param target the generated batch handler
+     * @return a new invoker calling {@code target}
+     * @author LeyCM
+     * @since 1.1.2
+     */
+    @Contract("_, _, _ -> new")
+    public static @NotNull BatchInvoker of(@NotNull Class<?> owner, @NotNull String name, @NotNull Consumer<List<Event>> target) {
+        return new BatchInvoker(owner, name, null, target);
+    }
+
+    /**
+     * Wraps a batch handler compiled by a {@link HandlerInvoker#factory(Method) factory} of the given method.
+     *
+     * @param method the batch handler method
+     * @param target the compiled handler bound to its listener instance
+     * @return a new invoker calling {@code target}
+     */
+    static @NotNull BatchInvoker bound(@NotNull Method method, @NotNull Consumer<?> target) {
+        return new BatchInvoker(method.getDeclaringClass(), method.getName(), method, target);
+    }
+
+    /**
+     * Invokes the handler method with a single element list of the given event.
+     *
+     * @param event the event to pass to the handler
+     * @throws ProcessHandlerException if the handler method throws
+     * @author LeyCM
+     * @since 1.1.2
+     */
+    @Override
+    public void accept(Event event) {
+        Single single = SINGLE.get();
+        // a batch handler firing again on the same thread still reads the outer list
+        if (single.event != null) {
+            acceptAll(List.of(event));
+            return;
+        }
+
+        single.event = event;
+        try { acceptAll(single); }
+        finally { single.event = null; }
+    }
+
+    /**
+     * Invokes the handler method with the given events.
+     *
+     * @param events the events to pass to the handler, must not be modified by the handler
+     * @throws ProcessHandlerException if the handler method throws
+     * @author LeyCM
+     * @since 1.1.2
+     */
+    @Override
+    public void acceptAll(@NotNull List<Event> events) {
+        try { target.accept(events); }
+        catch (Throwable ex) { throw HandlerInvoker.failure(ex, true); }
+    }
+
+    /**
+     * Returns the class declaring the handler method.
+     *
+     * @return the handler list class of the method
+     * @author LeyCM
+     * @since 1.1.2
+     */
+    public @NotNull Class<?> owner() {
+        return owner;
+    }
+
+    /**
+     * Returns the name of the handler method.
+     *
+     * @return the method name
+     * @author LeyCM
+     * @since 1.1.2
+     */
+    public @NotNull String name() {
+        return name;
+    }
+
+    /**
+     * Returns the handler method this invoker calls.
+     *
+     * @return the compiled handler method, or {@code null} for handlers of a generated registrar
+     * @author LeyCM
+     * @since 1.1.2
+     */
+    public @Nullable Method method() {
+        return method;
+    }
+
+    /**
+     * Reusable unmodifiable list holding the single event passed to a batch handler.
+     */
+    private static final class Single extends AbstractList<Event> implements RandomAccess {
+        private Event event;
+
+        @Override
+        public Event get(int index) {
+            Objects.checkIndex(index, 1);
+            return event;
+        }
+
+        @Override
+        public int size() {
+            return 1;
+        }
+    }
+
+}
@@ -0,0 +1,62 @@
+/**
+ * RPL-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the RPL-LICENSE. <br>
+ * License at: <a href="https://github.com/rubrionmc/.github/blob/main/licensens/RUBRION_PUBLIC">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <leycm@proton.me> <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package net.rubrion.common.api.event.registry;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.util.function.Consumer;
+
+/**
+ * Transport moving the frames of an {@link EventBridge} between nodes.
+ * <p>
+ * A frame is an opaque byte array holding a compressed batch of events. Transports deliver
+ * every sent frame to the other nodes of the fleet; delivering it back to the sender is
+ * allowed, the bridge drops frames of its own node. Frames must arrive unmodified, but may
+ * be lost or reordered if the transport does not guarantee more.
+ * </p>
+ *
+ * @author LeyCM
+ * @since 1.1.2
+ * @see LoopbackTransport
+ */
+public interface BridgeTransport extends AutoCloseable {
+
+    /**
+     * Starts receiving frames. Called once by the bridge before the first {@link #send(byte[])}.
+     *
+     * @param receiver called with every frame received from another node, may be called from any thread
+     * @throws IOException if the transport cannot be opened
+     * @author LeyCM
+     * @since 1.1.2
+     */
+    void open(@NotNull Consumer<byte[]> receiver) throws IOException;
+
+    /**
+     * Sends a frame to the other nodes.
+     *
+     * @param frame the frame to send, must not be modified afterwards
+     * @throws IOException if sending fails
+     * @author LeyCM
+     * @since 1.1.2
+     */
+    void send(byte @NotNull [] frame) throws IOException;
+
+    /**
+     * Stops receiving frames and releases the resources of this transport.
+     *
+     * @author LeyCM
+     * @since 1.1.2
+     */
+    @Override
+    void close();
+
+}
@@ -0,0 +1,162 @@
+/**
+ * RPL-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the RPL-LICENSE. <br>
+ * License at: <a href="https://github.com/rubrionmc/.github/blob/main/licensens/RUBRION_PUBLIC">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <leycm@proton.me> <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package net.rubrion.common.api.event.registry;
+
+import net.rubrion.common.api.event.Event;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Queue of non-urgent events that are fired at a caller-driven tick boundary within a time budget.
+ * <p>
+ * {@link #defer(Event)} only enqueues the event, so the deferring thread never runs handlers.
+ * Each {@link #tick()} fires queued events through {@link EventBus#fire(Event)} until the
+ * configured budget is used up; the remaining events carry over to the next tick. Load spikes
+ * are therefore spread over several ticks instead of stretching a single one.
+ * </p>
+ * <p>
+ * Every event class can be given a priority. Events of a higher priority are fired before
+ * events of a lower one, events of the same priority in the order they were deferred.
+ * The priority is taken from the exact event class when the event is deferred.
+ * </p>
+ *
+ * @author LeyCM
+ * @since 1.1.2
+ * @see EventBus#fire(Event)
+ */
+public final class DeferredEventQueue {
+    private final NavigableMap<Integer, Queue<Event>> queues = new ConcurrentSkipListMap<>(Comparator.reverseOrder());
+    private final Map<Class<?>, Integer> priorities = new ConcurrentHashMap<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private volatile long budgetNanos;
+
+    /**
+     * Creates a new queue firing deferred events for at most the given time per tick.
+     *
+     * @param budget the time each {@link #tick()} may spend firing events, must be positive
+     * @throws IllegalArgumentException if {@code budget} is not positive
+     * @author LeyCM
+     * @since 1.1.2
+     */
+    public DeferredEventQueue(@NotNull Duration budget) {
+        budget(budget);
+    }
+
+    /**
+     * Queues an event to be fired by a later {@link #tick()}.
+     *
+     * @param event the event to defer, must not be {@code null}
+     * @author LeyCM
+     * @since 1.1.2
+     */
+    public void defer(@NotNull Event event) {
+        int priority = priorities.getOrDefault(event.getClass(), 0);
+        queues.computeIfAbsent(priority, unused -> new ConcurrentLinkedQueue<>()).add(event);
+        size.incrementAndGet();
+    }
+
+    /**
+     * Fires deferred events, highest priority first, until the budget of this tick is used up.
+     * <p>
+     * At least one event is fired per tick, so a single event exceeding the budget cannot stall
+     * the queue. If a handler throws, the exception is propagated and the remaining events stay
+     * queued for the next tick.
+     * </p>
+     *
+     * @return the number of events fired
+     * @author LeyCM
+     * @since 1.1.2
+     */
+    public int tick() {
+        long deadline = System.nanoTime() + budgetNanos;
+        int fired = 0;
+
+        for (Queue<Event> queue : queues.values()) {
+            for (Event event; (event = queue.poll()) != null; ) {
+                size.decrementAndGet();
+                fired++;
+                EventBus.fire(event);
+                if (System.nanoTime() - deadline >= 0) return fired;
+            }
+        }
+        return fired;
+    }
+
+    /**
+     * Sets the priority of an event class. Events deferred before the change keep their priority.
+     *
+     * @param type the exact event class, must not be {@code null}
+     * @param priority the priority, higher values are fired first, {@code 0} by default
+     * @author LeyCM
+     * @since 1.1.2
+     */
+    public void priority(@NotNull Class<? extends Event> type, int priority) {
+        if (priority == 0) priorities.remove(type);
+        else priorities.put(type, priority);
+    }
+
+    /**
+     * Returns the priority of an event class.
+     *
+     * @param type the exact event class, must not be {@code null}
+     * @return the priority events of {@code type} are deferred with
+     * @author LeyCM
+     * @since 1.1.2
+     */
+    public int priority(@NotNull Class<? extends Event> type) {
+        return priorities.getOrDefault(type, 0);
+    }
+
+    /**
+     * Sets the time each {@link #tick()} may spend firing events.
+     *
+     * @param budget the budget per tick, must be positive
+     * @throws IllegalArgumentException if {@code budget} is not positive
+     * @author LeyCM
+     * @since 1.1.2
+     */
+    public void budget(@NotNull Duration budget) {
+        if (budget.isNegative() || budget.isZero()) throw new IllegalArgumentException("budget must be positive");
+        this.budgetNanos = budget.toNanos();
+    }
+
+    /**
+     * Returns the time each {@link #tick()} may spend firing events.
+     *
+     * @return the budget per tick
+     * @author LeyCM
+     * @since 1.1.2
+     */
+    public @NotNull Duration budget() {
+        return Duration.ofNanos(budgetNanos);
+    }
+
+    /**
+     * Returns the number of events waiting to be fired.
+     *
+     * @return the number of deferred events
+     * @author LeyCM
+     * @since 1.1.2
+     */
+    public int size() {
+        return Math.max(0, size.get());
+    }
+
+}
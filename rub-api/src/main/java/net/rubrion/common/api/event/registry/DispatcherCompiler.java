@@ -0,0 +1,101 @@
+/**
+ * RPL-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the RPL-LICENSE. <br>
+ * License at: <a href="https://github.com/rubrionmc/.github/blob/main/licensens/RUBRION_PUBLIC">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <leycm@proton.me> <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package net.rubrion.common.api.event.registry;
+
+import net.rubrion.common.api.event.Event;
+import net.rubrion.common.api.event.exception.EventRegistrationException;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * Defines specialized {@link EventDispatcher}s as hidden classes.
+ * <p>
+ * Every call to {@link #compile(HandlerSnapshot, Consumer)} defines a new hidden class from the
+ * bytes of {@link DispatcherTemplate} via {@link MethodHandles.Lookup#defineHiddenClass}.
+ * Because the class is not shared between event types, the handler call sites inside it
+ * only ever see the handlers of one event type. Hidden classes are unloaded once their
+ * dispatcher is no longer referenced, so regenerating on registration changes does not leak.
+ * </p>
+ *
+ * @author LeyCM
+ * @since 1.1.2
+ * @see EventExecutor#compiled(boolean)
+ */
+final class DispatcherCompiler {
+    private static final MethodType CONSTRUCTOR = MethodType.methodType(void.class,
+            Consumer[].class, boolean[].class, boolean[].class, boolean[].class, Consumer[].class, Consumer.class);
+
+    private static final byte[] TEMPLATE = readTemplate();
+
+    private DispatcherCompiler() { }
+
+    /**
+     * Compiles a dispatcher calling the non-monitor handlers of a snapshot in order,
+     * followed by the monitor consumer.
+     *
+     * @param snapshot the snapshot to compile
+     * @param monitor the consumer running all monitor handlers, or {@code null} if there are none
+     * @return a new dispatcher backed by its own hidden class
+     * @throws EventRegistrationException if the hidden class cannot be defined
+     */
+    static @NotNull EventDispatcher compile(@NotNull HandlerSnapshot snapshot, @Nullable Consumer<Event> monitor) {
+        Consumer<Event>[] handlers = Arrays.copyOf(snapshot.handlers(), snapshot.monitor());
+        int slots = Math.min(handlers.length, DispatcherTemplate.SLOTS);
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        Consumer<Event>[] inline = new Consumer[slots];
+        boolean[] wrapped = new boolean[slots];
+        for (int i = 0; i < slots; i++) {
+            if (handlers[i] instanceof HandlerInvoker invoker) {
+                inline[i] = invoker.target();
+                wrapped[i] = true;
+            } else inline[i] = handlers[i];
+        }
+
+        boolean[] skips = Arrays.copyOf(snapshot.skips(), Math.max(handlers.length, DispatcherTemplate.SLOTS));
+        boolean[] starts = new boolean[skips.length];
+        if (snapshot.skipsCanceled()) {
+            int[] offsets = snapshot.offsets();
+            for (int l = 0; l < offsets.length - 1; l++) {
+                if (offsets[l] < handlers.length && offsets[l] < offsets[l + 1]) starts[offsets[l]] = true;
+            }
+        }
+
+        Consumer<Event>[] overflow = Arrays.copyOfRange(handlers, slots, handlers.length);
+
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup().defineHiddenClass(TEMPLATE, true);
+            MethodHandle constructor = lookup.findConstructor(lookup.lookupClass(), CONSTRUCTOR);
+            return (EventDispatcher) constructor.invoke(inline, wrapped, skips, starts, overflow, monitor);
+        } catch (Throwable ex) {
+            throw new EventRegistrationException("Fail to compile dispatcher", ex);
+        }
+    }
+
+    private static byte[] readTemplate() {
+        String name = DispatcherTemplate.class.getSimpleName() + ".class";
+        try (InputStream in = DispatcherCompiler.class.getResourceAsStream(name)) {
+            if (in == null) throw new IllegalStateException("Missing dispatcher template " + name);
+            return in.readAllBytes();
+        } catch (IOException ex) {
+            throw new IllegalStateException("Fail to read dispatcher template " + name, ex);
+        }
+    }
+
+}
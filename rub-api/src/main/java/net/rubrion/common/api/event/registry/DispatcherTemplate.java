@@ -0,0 +1,177 @@
+/**
+ * RPL-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the RPL-LICENSE. <br>
+ * License at: <a href="https://github.com/rubrionmc/.github/blob/main/licensens/RUBRION_PUBLIC">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <leycm@proton.me> <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package net.rubrion.common.api.event.registry;
+
+import net.rubrion.common.api.event.Event;
+import net.rubrion.common.api.event.able.Cancelable;
+
+import java.util.function.Consumer;
+
+/**
+ * Bytecode template for compiled dispatchers.
+ * <p>
+ * This class is never loaded under its own name. {@link DispatcherCompiler} defines a fresh
+ * hidden class from its bytes for every compiled event type, so each copy of
+ * {@link #dispatch(Event)} collects its own type profile. The first {@value #SLOTS} handlers
+ * are called as straight-line code and stay monomorphic per event type, which lets the JIT
+ * inline them; further handlers are called from the {@code overflow} array and monitor
+ * handlers run last through a single {@code monitor} consumer.
+ * </p>
+ * <p>
+ * The canceled state of the event is read at every handler flagged in {@code starts}, which
+ * marks the first handler of each priority level, and handlers flagged in {@code skips} are
+ * passed over while it is set. This matches the per-level check of the iterated fire path.
+ * </p>
+ *
+ * @author LeyCM
+ * @since 1.1.2
+ * @see DispatcherCompiler
+ */
+final class DispatcherTemplate implements EventDispatcher {
+    static final int SLOTS = 8;
+
+    private final Consumer<Event> h0;
+    private final Consumer<Event> h1;
+    private final Consumer<Event> h2;
+    private final Consumer<Event> h3;
+    private final Consumer<Event> h4;
+    private final Consumer<Event> h5;
+    private final Consumer<Event> h6;
+    private final Consumer<Event> h7;
+    private final boolean w0;
+    private final boolean w1;
+    private final boolean w2;
+    private final boolean w3;
+    private final boolean w4;
+    private final boolean w5;
+    private final boolean w6;
+    private final boolean w7;
+    private final boolean s0;
+    private final boolean s1;
+    private final boolean s2;
+    private final boolean s3;
+    private final boolean s4;
+    private final boolean s5;
+    private final boolean s6;
+    private final boolean s7;
+    private final boolean l0;
+    private final boolean l1;
+    private final boolean l2;
+    private final boolean l3;
+    private final boolean l4;
+    private final boolean l5;
+    private final boolean l6;
+    private final boolean l7;
+    private final Consumer<Event>[] overflow;
+    private final boolean[] skips;
+    private final boolean[] starts;
+    private final Consumer<Event> monitor;
+
+    DispatcherTemplate(Consumer<Event>[] handlers, boolean[] wrapped, boolean[] skips, boolean[] starts,
+                       Consumer<Event>[] overflow, Consumer<Event> monitor) {
+        this.h0 = handlers.length > 0 ? handlers[0] : null;
+        this.w0 = wrapped.length > 0 && wrapped[0];
+        this.s0 = skips.length > 0 && skips[0];
+        this.l0 = starts.length > 0 && starts[0];
+        this.h1 = handlers.length > 1 ? handlers[1] : null;
+        this.w1 = wrapped.length > 1 && wrapped[1];
+        this.s1 = skips.length > 1 && skips[1];
+        this.l1 = starts.length > 1 && starts[1];
+        this.h2 = handlers.length > 2 ? handlers[2] : null;
+        this.w2 = wrapped.length > 2 && wrapped[2];
+        this.s2 = skips.length > 2 && skips[2];
+        this.l2 = starts.length > 2 && starts[2];
+        this.h3 = handlers.length > 3 ? handlers[3] : null;
+        this.w3 = wrapped.length > 3 && wrapped[3];
+        this.s3 = skips.length > 3 && skips[3];
+        this.l3 = starts.length > 3 && starts[3];
+        this.h4 = handlers.length > 4 ? handlers[4] : null;
+        this.w4 = wrapped.length > 4 && wrapped[4];
+        this.s4 = skips.length > 4 && skips[4];
+        this.l4 = starts.length > 4 && starts[4];
+        this.h5 = handlers.length > 5 ? handlers[5] : null;
+        this.w5 = wrapped.length > 5 && wrapped[5];
+        this.s5 = skips.length > 5 && skips[5];
+        this.l5 = starts.length > 5 && starts[5];
+        this.h6 = handlers.length > 6 ? handlers[6] : null;
+        this.w6 = wrapped.length > 6 && wrapped[6];
+        this.s6 = skips.length > 6 && skips[6];
+        this.l6 = starts.length > 6 && starts[6];
+        this.h7 = handlers.length > 7 ? handlers[7] : null;
+        this.w7 = wrapped.length > 7 && wrapped[7];
+        this.s7 = skips.length > 7 && skips[7];
+        this.l7 = starts.length > 7 && starts[7];
+        this.overflow = overflow;
+        this.skips = skips;
+        this.starts = starts;
+        this.monitor = monitor;
+    }
+
+    @Override
+    public void dispatch(Event event) {
+        boolean canceled = false;
+
+        if (h0 == null) { monitor(event); return; }
+        if (l0) canceled = isCanceled(event);
+        if (!canceled || !s0)
+            try { h0.accept(event); } catch (Throwable ex) { throw HandlerInvoker.failure(ex, w0); }
+
+        if (h1 == null) { monitor(event); return; }
+        if (l1) canceled = isCanceled(event);
+        if (!canceled || !s1)
+            try { h1.accept(event); } catch (Throwable ex) { throw HandlerInvoker.failure(ex, w1); }
+
+        if (h2 == null) { monitor(event); return; }
+        if (l2) canceled = isCanceled(event);
+        if (!canceled || !s2)
+            try { h2.accept(event); } catch (Throwable ex) { throw HandlerInvoker.failure(ex, w2); }
+
+        if (h3 == null) { monitor(event); return; }
+        if (l3) canceled = isCanceled(event);
+        if (!canceled || !s3)
+            try { h3.accept(event); } catch (Throwable ex) { throw HandlerInvoker.failure(ex, w3); }
+
+        if (h4 == null) { monitor(event); return; }
+        if (l4) canceled = isCanceled(event);
+        if (!canceled || !s4)
+            try { h4.accept(event); } catch (Throwable ex) { throw HandlerInvoker.failure(ex, w4); }
+
+        if (h5 == null) { monitor(event); return; }
+        if (l5) canceled = isCanceled(event);
+        if (!canceled || !s5)
+            try { h5.accept(event); } catch (Throwable ex) { throw HandlerInvoker.failure(ex, w5); }
+
+        if (h6 == null) { monitor(event); return; }
+        if (l6) canceled = isCanceled(event);
+        if (!canceled || !s6)
+            try { h6.accept(event); } catch (Throwable ex) { throw HandlerInvoker.failure(ex, w6); }
+
+        if (h7 == null) { monitor(event); return; }
+        if (l7) canceled = isCanceled(event);
+        if (!canceled || !s7)
+            try { h7.accept(event); } catch (Throwable ex) { throw HandlerInvoker.failure(ex, w7); }
+
+        for (int i = 0; i < overflow.length; i++) {
+            if (starts[SLOTS + i]) canceled = isCanceled(event);
+            if (!canceled || !skips[SLOTS + i]) overflow[i].accept(event);
+        }
+        monitor(event);
+    }
+
+    private void monitor(Event event) {
+        if (monitor != null) monitor.accept(event);
+    }
+
+    private static boolean isCanceled(Event event) {
+        return event instanceof Cancelable cancelable && cancelable.isCanceled();
+    }
+
+}
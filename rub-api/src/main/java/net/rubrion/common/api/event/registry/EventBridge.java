@@ -0,0 +1,415 @@
+/**
+ * RPL-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the RPL-LICENSE. <br>
+ * License at: <a href="https://github.com/rubrionmc/.github/blob/main/licensens/RUBRION_PUBLIC">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <leycm@proton.me> <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package net.rubrion.common.api.event.registry;
+
+import net.rubrion.common.api.event.Event;
+import net.rubrion.common.api.event.handler.HandlerInfo;
+import net.rubrion.common.api.event.handler.HandlerPriority;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.*;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Bridge firing selected events of the local {@link EventBus} on the other nodes of a fleet.
+ * <p>
+ * Event types are marked with {@link #bridge(Class, String, EventCodec)}. The bridge listens to
+ * them on {@link HandlerPriority#LATE} and serializes every fired event that is not canceled by
+ * then into a pending batch. Once per flush interval the batch is compressed with a
+ * {@link Deflater} into a single frame and handed to the {@link BridgeTransport}, so the
+ * per-message overhead is paid once per batch instead of once per event.
+ * </p>
+ * <p>
+ * Received frames are decoded and their events fired into the local bus with
+ * {@link EventBus#fireAll(java.util.Collection)} on the receiving thread. The received
+ * instances themselves are never sent again by any bridge, and frames carrying the id of this
+ * node are dropped, so events cannot loop between nodes. New events fired by handlers reacting
+ * to a received event are sent as usual. Events of unknown type ids are skipped, and handlers
+ * failing on received events are reported without affecting the transport.
+ * </p>
+ * <p>
+ * A frame carries at most {@value #MAX_EVENTS} events and {@value #MAX_RAW} uncompressed
+ * bytes, and a single event at most {@value #MAX_PAYLOAD} bytes. Larger batches are split into
+ * several frames, larger events are rejected when they are fired. Received frames are checked
+ * against these limits before any buffer is allocated for them.
+ * </p>
+ * <p>
+ * Publishing only appends to the pending batch. Flushing swaps the batch out under the same
+ * short lock and compresses and sends it outside of it, so firing threads never wait for the
+ * compression.
+ * </p>
+ *
+ * @author LeyCM
+ * @since 1.1.2
+ * @see BridgeTransport
+ * @see EventCodec
+ */
+public final class EventBridge implements AutoCloseable {
+    private static final int MAGIC = 0x52554231;
+    private static final int MAX_PAYLOAD = 1 << 20;
+    private static final int MAX_EVENTS = 1 << 16;
+    private static final int MAX_RAW = 16 << 20;
+    private static final int MAX_FRAME = MAX_RAW + (64 << 10);
+    private static final int MIN_ENTRY = Short.BYTES + Integer.BYTES;
+    private static final AtomicInteger BRIDGES = new AtomicInteger();
+    private static final ThreadLocal<Set<Event>> REPLAYING =
+            ThreadLocal.withInitial(() -> Collections.newSetFromMap(new IdentityHashMap<>()));
+
+    private final String node;
+    private final BridgeTransport transport;
+    private final ScheduledExecutorService scheduler;
+    private final Map<Class<?>, Route<?>> outgoing = new ConcurrentHashMap<>();
+    private final Map<String, Route<?>> incoming = new ConcurrentHashMap<>();
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder received = new LongAdder();
+
+    private final ByteArrayOutputStream scratch = new ByteArrayOutputStream();
+    private final DataOutputStream scratchOut = new DataOutputStream(scratch);
+    private final List<Batch> sealed = new ArrayList<>();
+    private Batch pending = new Batch();
+
+    private final Object sending = new Object();
+    private final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+    private volatile boolean closed;
+
+    /**
+     * Creates a new bridge, opens its transport and starts flushing on a daemon thread.
+     *
+     * @param node the id of this node, must be unique within the fleet
+     * @param transport the transport to send and receive frames with, must not be {@code null}
+     * @param flushInterval the time between two flushes, must be positive
+     * @throws IllegalArgumentException if {@code flushInterval} is not positive
+     * @throws UncheckedIOException if the transport cannot be opened
+     * @author LeyCM
+     * @since 1.1.2
+     */
+    public EventBridge(@NotNull String node, @NotNull BridgeTransport transport, @NotNull Duration flushInterval) {
+        if (flushInterval.isNegative() || flushInterval.isZero())
+            throw new IllegalArgumentException("flushInterval must be positive");
+
+        this.node = node;
+        this.transport = transport;
+        try {
+            transport.open(this::receive);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Fail to open bridge transport", ex);
+        }
+
+        String name = "rub-bridge-" + BRIDGES.incrementAndGet();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, name);
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        long nanos = flushInterval.toNanos();
+        scheduler.scheduleAtFixedRate(this::scheduledFlush, nanos, nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Marks an event class to be sent to and received from the other nodes.
+     * Only events of exactly {@code type} are sent, instances of subclasses are not.
+     *
+     * @param type the event class, must not be {@code null}
+     * @param id the id identifying the type on all nodes, must not be {@code null}
+     * @param codec serializes the events of the type, must not be {@code null}
+     * @param <E> the event type
+     * @throws IllegalStateException if the type or id is already bridged
+     * @author LeyCM
+     * @since 1.1.2
+     */
+    public <E extends Event> void bridge(@NotNull Class<E> type, @NotNull String id, @NotNull EventCodec<E> codec) {
+        Route<E> route = new Route<>(type, id, codec, event -> {
+            if (event.getClass() == type && !REPLAYING.get().contains(event)) publish(id, codec, type.cast(event));
+        });
+
+        if (incoming.putIfAbsent(id, route) != null) throw new IllegalStateException("Bridge id " + id + " is already used");
+        if (outgoing.putIfAbsent(type, route) != null) {
+            incoming.remove(id);
+            throw new IllegalStateException("Event type " + type.getName() + " is already bridged");
+        }
+
+        EventBus.attach(new HandlerInfo(type, HandlerPriority.LATE, true), route.handler());
+    }
+
+    /**
+     * Sends all pending events, as one frame unless they exceed the limits of a frame.
+     * Concurrent flushes send their frames one after another, in the order the events were fired.
+     *
+     * @return the number of sent events
+     * @throws IOException if the transport fails to send, the events of this and all later frames of the flush are dropped
+     * @author LeyCM
+     * @since 1.1.2
+     */
+    public int flush() throws IOException {
+        synchronized (sending) {
+            List<Batch> batches;
+            synchronized (this) {
+                if (pending.count == 0 && sealed.isEmpty()) return 0;
+                batches = new ArrayList<>(sealed);
+                if (pending.count != 0) batches.add(pending);
+                sealed.clear();
+                pending = new Batch();
+            }
+
+            int count = 0;
+            for (Batch batch : batches) {
+                transport.send(frame(batch));
+                sent.add(batch.count);
+                count += batch.count;
+            }
+            return count;
+        }
+    }
+
+    /**
+     * Returns the id of this node.
+     *
+     * @return the node id written into every sent frame
+     * @author LeyCM
+     * @since 1.1.2
+     */
+    public @NotNull String node() {
+        return node;
+    }
+
+    /**
+     * Returns the number of events sent to the other nodes.
+     *
+     * @return the number of sent events since creation
+     * @author LeyCM
+     * @since 1.1.2
+     */
+    public long sent() {
+        return sent.sum();
+    }
+
+    /**
+     * Returns the number of events received from other nodes and fired locally.
+     *
+     * @return the number of received events since creation
+     * @author LeyCM
+     * @since 1.1.2
+     */
+    public long received() {
+        return received.sum();
+    }
+
+    /**
+     * Stops listening to bridged events, sends the pending events and closes the transport.
+     * A failing final flush is passed to the uncaught exception handler of the calling thread.
+     *
+     * @author LeyCM
+     * @since 1.1.2
+     */
+    @Override
+    public void close() {
+        if (closed) return;
+        closed = true;
+
+        for (Route<?> route : outgoing.values()) EventBus.detach(route.type(), route.handler());
+        scheduler.shutdown();
+        boolean interrupted = false;
+        while (!scheduler.isTerminated()) {
+            try { scheduler.awaitTermination(1, TimeUnit.SECONDS); }
+            catch (InterruptedException ex) { interrupted = true; }
+        }
+        if (interrupted) Thread.currentThread().interrupt();
+
+        scheduledFlush();
+        transport.close();
+        synchronized (sending) {
+            deflater.end();
+        }
+    }
+
+    /**
+     * Serializes an event into the pending batch, sealing the batch first if the event does not
+     * fit into its frame. A failing codec or an event larger than {@value #MAX_PAYLOAD} bytes is
+     * reported to the uncaught exception handler of the firing thread and the event is not sent.
+     *
+     * @param id the bridge id of the event type
+     * @param codec the codec of the event type
+     * @param event the fired event
+     * @param <E> the event type
+     */
+    private <E extends Event> void publish(@NotNull String id, @NotNull EventCodec<E> codec, @NotNull E event) {
+        synchronized (this) {
+            if (closed) return;
+            try {
+                scratch.reset();
+                codec.write(event, scratchOut);
+                if (scratch.size() > MAX_PAYLOAD)
+                    throw new IOException("Payload of " + scratch.size() + " bytes exceeds " + MAX_PAYLOAD + " bytes");
+
+                // the utf length of an id never exceeds its char count times three
+                int entry = MIN_ENTRY + id.length() * 3 + scratch.size();
+                if (pending.count == MAX_EVENTS || pending.count != 0 && pending.bytes.size() + entry > MAX_RAW) {
+                    sealed.add(pending);
+                    pending = new Batch();
+                }
+
+                pending.out.writeUTF(id);
+                pending.out.writeInt(scratch.size());
+                scratch.writeTo(pending.out);
+                pending.count++;
+            } catch (IOException | RuntimeException ex) {
+                report(new IOException("Fail to serialize " + event.debug() + " for the bridge", ex));
+            }
+        }
+    }
+
+    /**
+     * Builds a frame from a batch taken from the pending events. Must hold the sending lock,
+     * which guards the deflater.
+     *
+     * @param batch the batch to send
+     * @return the frame with uncompressed header and deflated body
+     * @throws IOException if writing the frame fails
+     */
+    private byte @NotNull [] frame(@NotNull Batch batch) throws IOException {
+        byte[] raw = batch.bytes.toByteArray();
+        deflater.reset();
+        deflater.setInput(raw);
+        deflater.finish();
+
+        ByteArrayOutputStream frame = new ByteArrayOutputStream(raw.length / 2 + 64);
+        DataOutputStream out = new DataOutputStream(frame);
+        out.writeInt(MAGIC);
+        out.writeUTF(node);
+        out.writeInt(batch.count);
+        out.writeInt(raw.length);
+
+        byte[] buffer = new byte[8192];
+        while (!deflater.finished()) out.write(buffer, 0, deflater.deflate(buffer));
+        return frame.toByteArray();
+    }
+
+    /**
+     * Decodes a received frame and fires its events into the local bus. Malformed frames and
+     * failing handlers are reported to the uncaught exception handler of the receiving thread,
+     * so they never fail the transport delivering the frame.
+     *
+     * @param frame the received frame
+     */
+    private void receive(byte @NotNull [] frame) {
+        if (closed) return;
+
+        List<Event> events;
+        try {
+            events = decode(frame);
+        } catch (IOException | DataFormatException | RuntimeException ex) {
+            report(new IOException("Fail to decode bridge frame", ex));
+            return;
+        }
+        if (events.isEmpty()) return;
+
+        received.add(events.size());
+        Set<Event> replaying = REPLAYING.get();
+        replaying.addAll(events);
+        try { EventBus.fireAll(events); }
+        catch (RuntimeException ex) { report(ex); }
+        finally { events.forEach(replaying::remove); }
+    }
+
+    /**
+     * Decodes the events of a frame. All sizes read from the frame are checked against the
+     * limits of a frame before they are allocated.
+     *
+     * @param frame the received frame
+     * @return the events of known types, or an empty list for frames of this node
+     * @throws IOException if the frame is malformed or exceeds the limits
+     * @throws DataFormatException if the body cannot be inflated
+     */
+    private @NotNull List<Event> decode(byte @NotNull [] frame) throws IOException, DataFormatException {
+        if (frame.length > MAX_FRAME) throw new IOException("Bridge frame of " + frame.length + " bytes exceeds " + MAX_FRAME + " bytes");
+
+        DataInputStream header = new DataInputStream(new ByteArrayInputStream(frame));
+        if (header.readInt() != MAGIC) throw new IOException("Not a bridge frame");
+        if (header.readUTF().equals(node)) return List.of();
+
+        int count = header.readInt();
+        int size = header.readInt();
+        if (size < 0 || size > MAX_RAW) throw new IOException("Invalid bridge batch size " + size);
+        if (count < 0 || count > MAX_EVENTS || count > size / MIN_ENTRY) throw new IOException("Invalid bridge event count " + count);
+
+        byte[] raw = new byte[size];
+        int offset = frame.length - header.available();
+
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(frame, offset, frame.length - offset);
+            for (int read = 0; read < raw.length; ) {
+                int inflated = inflater.inflate(raw, read, raw.length - read);
+                if (inflated == 0) throw new IOException(inflater.needsDictionary()
+                        ? "Bridge frame requires a preset dictionary" : "Truncated bridge frame");
+                read += inflated;
+            }
+        } finally {
+            inflater.end();
+        }
+
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(raw));
+        List<Event> events = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Route<?> route = incoming.get(in.readUTF());
+            int length = in.readInt();
+            if (length < 0 || length > MAX_PAYLOAD || length > in.available())
+                throw new IOException("Invalid bridge payload length " + length);
+
+            byte[] payload = new byte[length];
+            in.readFully(payload);
+            if (route != null) events.add(route.codec().read(new DataInputStream(new ByteArrayInputStream(payload))));
+        }
+        return events;
+    }
+
+    private void scheduledFlush() {
+        try { flush(); }
+        catch (Throwable ex) { report(ex); }
+    }
+
+    private static void report(@NotNull Throwable ex) {
+        Thread thread = Thread.currentThread();
+        thread.getUncaughtExceptionHandler().uncaughtException(thread, ex);
+    }
+
+    /**
+     * Serialized events waiting to be sent as one frame.
+     */
+    private static final class Batch {
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private final DataOutputStream out = new DataOutputStream(bytes);
+        private int count;
+    }
+
+    /**
+     * A bridged event type with its codec and the handler listening to it.
+     */
+    private record Route<E extends Event>(Class<E> type, String id, EventCodec<E> codec, Consumer<Event> handler) { }
+
+}
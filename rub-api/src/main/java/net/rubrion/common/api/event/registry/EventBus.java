@@ -10,18 +10,45 @@
  */
 package net.rubrion.common.api.event.registry;
 
+import net.rubrion.common.api.api.ApiModule;
 import net.rubrion.common.api.event.Event;
+import net.rubrion.common.api.event.able.Keyed;
+import net.rubrion.common.api.event.able.Poolable;
+import net.rubrion.common.api.event.exception.EventRegistrationException;
 import net.rubrion.common.api.event.exception.ProcessHandlerException;
 import net.rubrion.common.api.event.handler.*;
+import net.rubrion.common.api.id.Identifier;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 /**
  * Central event bus for registering and firing events.
  * This class provides static methods to manage event handlers and dispatch events.
+ * <p>
+ * All methods are thread-safe. Executors are kept in a concurrent {@link ExecutorRegistry},
+ * so firing never waits for a concurrent registration.
+ * </p>
+ * <p>
+ * Dispatch follows the type hierarchy: a handler declared for a class or interface receives
+ * every fired event that is an instance of it. The handler chain of each concrete event class
+ * is resolved once and cached until the next registration change.
+ * </p>
+ * <p>
+ * Every registration returns a {@link Subscription}; closing it removes the handlers again.
+ * </p>
+ * <p>
+ * Fires and handler calls are reported to the Java Flight Recorder as {@code net.rubrion.event.Fire}
+ * and {@code net.rubrion.event.Handler} events when enabled in a recording.
+ * </p>
+ * <p>
+ * Handler lists can be registered for a routing key. Their handlers only receive {@link Keyed}
+ * events with that key, so per-player or per-arena listeners do not have to filter every event.
+ * </p>
  *
  * @author LeyCM
  * @since 1.1.2
@@ -30,10 +57,30 @@ import java.util.*;
  * @see EventExecutor
  */
 public final class EventBus {
-    private static final Map<Class<? extends Event>, EventExecutor> executors = new HashMap<>();
+    private static final int POOL_CAPACITY = 256;
+    private static final ExecutorRegistry executors = new ExecutorRegistry();
+    private static final Map<ApiModule, Set<Subscription>> owned = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, EventPool<?>> pools = new ConcurrentHashMap<>();
+    private static volatile Executor asyncExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private static final ClassValue<Optional<HandlerRegistrar<?>>> registrars = new ClassValue<>() {
+        @Override
+        protected Optional<HandlerRegistrar<?>> computeValue(Class<?> type) {
+            return loadRegistrar(type);
+        }
+    };
+
+    static {
+        FlightRecording.onRecordingChange(executors::invalidate);
+    }
 
     /**
-     * Fires an event to all registered handlers for that event type.
+     * Fires an event to all registered handlers for that event type, its supertypes and its interfaces.
+     * <p>
+     * If a {@linkplain #pool(Class, Supplier) pool} is registered for the class of a
+     * {@link Poolable} event, the event is returned to it once all handlers completed, unless a
+     * handler {@linkplain Poolable#retain() retained} it or a handler threw. The caller must not
+     * use a pooled event after firing it.
+     * </p>
      *
      * @param event the event to fire, must not be {@code null}
      * @throws IllegalArgumentException if event is {@code null}
@@ -41,50 +88,489 @@ public final class EventBus {
      * @since 1.1.2
      */
     public static void fire(@NotNull Event event) {
-        if (!executors.containsKey(event.getClass())) return;
-        executors.get(event.getClass()).fire(event);
+        EventExecutor executor = executors.resolve(event.getClass());
+        if (FlightRecording.recordsFires()) FlightRecording.fire(executor, event);
+        else executor.fire(event);
+        if (event instanceof Poolable) release(event);
+    }
+
+    /**
+     * Fires a batch of events.
+     * <p>
+     * The events are grouped by their concrete class and each group is resolved once and fired
+     * with {@link EventExecutor#fireAll(List)}: within every priority level, each handler runs
+     * over the whole group before the next handler, and batch handlers taking a {@code List<E>}
+     * receive the group in one call. Groups are fired in the order their first event appears
+     * in {@code events}, events of one group keep their relative order.
+     * </p>
+     * <p>
+     * Pooled events are returned to their pool like {@link #fire(Event)} does, once every group
+     * completed and unless a handler threw.
+     * </p>
+     *
+     * @param events the events to fire, must not be {@code null} or contain {@code null}
+     * @author LeyCM
+     * @since 1.1.2
+     * @see #fire(Event)
+     */
+    public static void fireAll(@NotNull Collection<? extends Event> events) {
+        if (events.isEmpty()) return;
+
+        Map<Class<?>, List<Event>> groups = new LinkedHashMap<>();
+        Class<?> last = null;
+        List<Event> group = null;
+        for (Event event : events) {
+            Class<?> type = event.getClass();
+            if (type != last) {
+                group = groups.computeIfAbsent(type, unused -> new ArrayList<>());
+                last = type;
+            }
+            group.add(event);
+        }
+
+        groups.forEach((type, batch) -> executors.resolve(type).fireAll(batch));
+        if (!pools.isEmpty()) for (List<Event> batch : groups.values()) releaseAll(batch);
+    }
+
+    /**
+     * Fires an event asynchronously on the configured async executor.
+     * <p>
+     * The event is dispatched exactly like {@link #fire(Event)}, only on another thread: all
+     * priority levels run in order and {@link net.rubrion.common.api.event.able.Cancelable}
+     * state is seen by later handlers. By default every async fire runs on its own virtual thread.
+     * Pooled events are not recycled, since the future hands the event back to the caller.
+     * </p>
+     *
+     * @param event the event to fire, must not be {@code null}
+     * @param <E> the type of the event
+     * @return a future completed with the event after all handlers ran, or completed
+     *         exceptionally with the failure of a handler
+     * @author LeyCM
+     * @since 1.1.2
+     * @see #asyncExecutor(Executor)
+     */
+    public static <E extends Event> @NotNull CompletableFuture<E> fireAsync(@NotNull E event) {
+        return fireAsync(event, asyncExecutor);
+    }
+
+    /**
+     * Fires an event asynchronously on the given executor.
+     *
+     * @param event the event to fire, must not be {@code null}
+     * @param executor the executor to dispatch on, must not be {@code null}
+     * @param <E> the type of the event
+     * @return a future completed with the event after all handlers ran, or completed
+     *         exceptionally with the failure of a handler or the rejection of the executor
+     * @author LeyCM
+     * @since 1.1.2
+     * @see #fireAsync(Event)
+     */
+    public static <E extends Event> @NotNull CompletableFuture<E> fireAsync(@NotNull E event, @NotNull Executor executor) {
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                executors.resolve(event.getClass()).fire(event);
+                return event;
+            }, executor);
+        } catch (RejectedExecutionException ex) {
+            return CompletableFuture.failedFuture(ex);
+        }
+    }
+
+    /**
+     * Registers a pool recycling the instances of a {@link Poolable} event class fired with
+     * {@link #fire(Event)} or {@link #fireAll(Collection)}, and so by an {@link EventPipeline},
+     * {@link EventCoalescer} or {@link EventBridge}. Acquire new events from the returned pool;
+     * events of the class created otherwise are recycled into the pool as well.
+     * <p>
+     * Events fired with {@link #fireAsync(Event)} are not recycled, since the returned future
+     * hands the event back to the caller. Release them to the pool once the future is done.
+     * </p>
+     * <p>
+     * Monitor handlers always receive a {@link net.rubrion.common.api.event.able.Monitorable#copy()}
+     * of the event, so recycled instances never reach them. The copy must not be taken from the pool.
+     * </p>
+     *
+     * @param type the exact event class, must not be {@code null}
+     * @param factory creates new instances when the pool is empty, must not be {@code null}
+     * @param <E> the pooled event type
+     * @return the pool of {@code type}, the already registered one if any
+     * @author LeyCM
+     * @since 1.1.2
+     * @see EventPool
+     */
+    @SuppressWarnings("unchecked")
+    public static <E extends Event & Poolable> @NotNull EventPool<E> pool(@NotNull Class<E> type,
+                                                                        @NotNull Supplier<E> factory) {
+        return (EventPool<E>) pools.computeIfAbsent(type, unused -> new EventPool<>(factory, POOL_CAPACITY));
+    }
+
+    /**
+     * Returns a fired event to the pool of its class, if one is registered.
+     *
+     * @param event the fired event, ignored unless it is {@link Poolable}
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static void release(@NotNull Event event) {
+        if (!(event instanceof Poolable)) return;
+        EventPool pool = pools.get(event.getClass());
+        if (pool != null) pool.release(event);
+    }
+
+    /**
+     * Returns fired events to the pools of their classes.
+     *
+     * @param events the fired events, all of one class
+     */
+    static void releaseAll(@NotNull List<? extends Event> events) {
+        if (events.isEmpty() || !(events.get(0) instanceof Poolable) || !pools.containsKey(events.get(0).getClass())) return;
+        for (int i = 0, size = events.size(); i < size; i++) release(events.get(i));
+    }
+
+    /**
+     * Sets the executor used by {@link #fireAsync(Event)}.
+     * Defaults to an executor starting a new virtual thread per event.
+     *
+     * @param executor the executor to dispatch async fires on, must not be {@code null}
+     * @author LeyCM
+     * @since 1.1.2
+     */
+    public static void asyncExecutor(@NotNull Executor executor) {
+        asyncExecutor = executor;
+    }
+
+    /**
+     * Moves all {@link HandlerPriority#MONITOR} handlers off the firing thread.
+     * <p>
+     * The monitor copy of an event is still created while firing, but the monitor handlers
+     * run on the given executor afterwards. Pass {@code null} to run them inline again.
+     * </p>
+     *
+     * @param executor the background executor for monitor handlers, or {@code null}
+     * @author LeyCM
+     * @since 1.1.2
+     * @see MonitorExecutor
+     */
+    public static void monitorExecutor(@Nullable MonitorExecutor executor) {
+        executors.monitors(executor);
+    }
+
+    /**
+     * Sets the pool {@link Handler#parallel()} handlers are forked onto.
+     * Defaults to the {@linkplain ForkJoinPool#commonPool() common pool}.
+     *
+     * @param pool the pool for parallel handlers, must not be {@code null}
+     * @author LeyCM
+     * @since 1.1.2
+     */
+    public static void parallelPool(@NotNull ForkJoinPool pool) {
+        executors.parallelPool(pool);
+    }
+
+    /**
+     * Installs metrics measuring every handler called by this bus.
+     * <p>
+     * All handler chains are rebuilt with measuring decorators on their next fire. Pass
+     * {@code null} to remove the decorators again; the removed metrics keep their statistics.
+     * </p>
+     *
+     * @param metrics the metrics to record into, or {@code null} to stop measuring
+     * @author LeyCM
+     * @since 1.1.2
+     * @see EventMetrics#snapshot()
+     */
+    public static void metrics(@Nullable EventMetrics metrics) {
+        executors.metrics(metrics);
+    }
+
+    /**
+     * Returns the installed metrics.
+     *
+     * @return the metrics measuring handler calls, or {@code null} if none are installed
+     * @author LeyCM
+     * @since 1.1.2
+     */
+    public static @Nullable EventMetrics metrics() {
+        return executors.metrics();
+    }
+
+    /**
+     * Installs a watchdog tripping slow or failing handlers called by this bus.
+     * <p>
+     * All handler chains are rebuilt with guards on their next fire, outside of the
+     * {@linkplain #metrics(EventMetrics) metrics} decorators, so skipped calls are not measured.
+     * Pass {@code null} to remove the guards again; tripped handlers then run normally.
+     * </p>
+     *
+     * @param watchdog the watchdog to guard with, or {@code null} to stop guarding
+     * @author LeyCM
+     * @since 1.1.2
+     * @see HandlerWatchdog
+     */
+    public static void watchdog(@Nullable HandlerWatchdog watchdog) {
+        executors.watchdog(watchdog);
+    }
+
+    /**
+     * Returns the installed watchdog.
+     *
+     * @return the watchdog guarding handler calls, or {@code null} if none is installed
+     * @author LeyCM
+     * @since 1.1.2
+     */
+    public static @Nullable HandlerWatchdog watchdog() {
+        return executors.watchdog();
+    }
+
+    /**
+     * Enables or disables compiled dispatch for an event type.
+     * <p>
+     * Compiled dispatch replaces the iteration over the handler sets with a generated class
+     * that calls every handler of the type as straight-line code. Use it for the hottest
+     * event types whose handlers are registered once at startup.
+     * </p>
+     *
+     * @param type the exact event class to configure, must not be {@code null}
+     * @param compiled {@code true} to enable compiled dispatch, {@code false} to disable it
+     * @author LeyCM
+     * @since 1.1.2
+     * @see EventExecutor#compiled(boolean)
+     */
+    public static void compiled(@NotNull Class<? extends Event> type, boolean compiled) {
+        executors.executor(type).compiled(compiled);
+        executors.invalidate();
     }
 
     /**
      * Registers all handler methods from a {@link HandlerList} implementation.
      * This method scans the class for methods annotated with {@link Handler} and registers them.
+     * The scan is done once per class; registering further instances only binds the cached handlers.
+     * If the {@code rub-processor} annotation processor generated a {@link HandlerRegistrar}
+     * for the class, the registrar is used instead and no reflection is involved.
      *
      * @param list the handler list containing annotated handler methods, must not be {@code null}
+     * @return the subscription that removes the registered handlers when closed
      * @throws IllegalArgumentException if list is {@code null}
      * @throws ProcessHandlerException if a handler method cannot be invoked
      * @author LeyCM
      * @since 1.1.2
      * @see Handler
      * @see HandlerList
+     * @see Subscription#close()
+     */
+    public static @NotNull Subscription register(@NotNull HandlerList list) {
+        return register(null, list, null);
+    }
+
+    /**
+     * Registers all handler methods from a {@link HandlerList} implementation for one routing key.
+     * The handlers are only called for {@link Keyed} events whose {@link Keyed#key()} equals
+     * {@code key}, so an event fired for one key never reaches the handlers of other keys.
+     *
+     * @param list the handler list containing annotated handler methods, must not be {@code null}
+     * @param key the routing key the handlers listen to, must not be {@code null}
+     * @return the subscription that removes the registered handlers when closed
+     * @throws ProcessHandlerException if a handler method cannot be invoked
+     * @author LeyCM
+     * @since 1.1.2
+     * @see Keyed
+     */
+    public static @NotNull Subscription register(@NotNull HandlerList list, @NotNull Identifier<?> key) {
+        return register(null, list, key);
+    }
+
+    /**
+     * Registers all handler methods from a {@link HandlerList} implementation on behalf of a module.
+     * All subscriptions of a module can be closed at once with {@link #unregisterAll(ApiModule)}.
+     * <p>
+     * If one of the handler methods is invalid, the handlers registered so far are removed again
+     * before the exception is rethrown.
+     * </p>
+     *
+     * @param owner the module owning the registration, or {@code null} for none
+     * @param list the handler list containing annotated handler methods, must not be {@code null}
+     * @return the subscription that removes the registered handlers when closed
+     * @throws ProcessHandlerException if a handler method cannot be invoked
+     * @author LeyCM
+     * @since 1.1.2
+     * @see #unregisterAll(ApiModule)
+     */
+    public static @NotNull Subscription register(@Nullable ApiModule owner, @NotNull HandlerList list) {
+        return register(owner, list, null);
+    }
+
+    /**
+     * Registers all handler methods from a {@link HandlerList} implementation on behalf of a module,
+     * optionally for one routing key.
+     *
+     * @param owner the module owning the registration, or {@code null} for none
+     * @param list the handler list containing annotated handler methods, must not be {@code null}
+     * @param key the routing key the handlers listen to, or {@code null} to receive every event
+     * @return the subscription that removes the registered handlers when closed
+     * @throws ProcessHandlerException if a handler method cannot be invoked
+     * @author LeyCM
+     * @since 1.1.2
+     * @see #register(HandlerList, Identifier)
+     */
+    public static @NotNull Subscription register(@Nullable ApiModule owner, @NotNull HandlerList list,
+                                                 @Nullable Identifier<?> key) {
+        Map<EventExecutor, List<Consumer<Event>>> handlers = new HashMap<>();
+        Subscription subscription = new Subscription(list, owner, key, handlers, EventBus::closed);
+
+        // own the subscription before its handlers go live, so a concurrent unregisterAll(owner) closes it,
+        // the close then waits on the handlers lock until the registration below is complete
+        if (owner != null) owned.compute(owner, (unused, subscriptions) -> {
+            if (subscriptions == null) subscriptions = ConcurrentHashMap.newKeySet();
+            subscriptions.add(subscription);
+            return subscriptions;
+        });
+
+        synchronized (handlers) {
+            try {
+                HandlerRegistrar<HandlerList> registrar = registrar(list.getClass());
+                if (registrar != null) registrar.register(list, new RegistrarSink(list.getClass(), key, handlers));
+                else for (HandlerMethod method : HandlerMethod.of(list.getClass()))
+                    register(method.info(), method.bind(list), key, handlers);
+            } catch (RuntimeException ex) {
+                subscription.close();
+                throw ex;
+            } finally {
+                executors.invalidate();
+            }
+        }
+
+        return subscription;
+    }
+
+    /**
+     * Closes every subscription registered on behalf of the given module.
+     *
+     * @param owner the module whose handlers should be removed, must not be {@code null}
+     * @author LeyCM
+     * @since 1.1.2
+     * @see #register(ApiModule, HandlerList)
+     */
+    public static void unregisterAll(@NotNull ApiModule owner) {
+        Set<Subscription> subscriptions = owned.remove(owner);
+        if (subscriptions != null) subscriptions.forEach(Subscription::close);
+    }
+
+    /**
+     * Registers a handler on the executor of its declared type and records it for the subscription.
+     *
+     * @param info the declared type and level of the handler
+     * @param invoker the handler to register
+     * @param key the routing key of the handler, or {@code null} for none
+     * @param handlers collects the registered handler per executor
+     */
+    private static void register(@NotNull HandlerInfo info, @NotNull Consumer<Event> invoker, @Nullable Identifier<?> key,
+                                 @NotNull Map<EventExecutor, List<Consumer<Event>>> handlers) {
+        EventExecutor executor = executors.executor(info.type());
+        executor.register(info, invoker, key);
+        handlers.computeIfAbsent(executor, unused -> new ArrayList<>()).add(invoker);
+    }
+
+    /**
+     * Returns the generated registrar of a handler list class.
+     *
+     * @param type the handler list class
+     * @return the registrar, or {@code null} if none was generated for the class
      */
-    public static void register(@NotNull HandlerList list) {
-        Arrays.stream(list.getClass().getDeclaredMethods())
-                .forEach(m -> register(m, list));
+    @SuppressWarnings("unchecked")
+    private static @Nullable HandlerRegistrar<HandlerList> registrar(@NotNull Class<?> type) {
+        return (HandlerRegistrar<HandlerList>) registrars.get(type).orElse(null);
     }
 
     /**
-     * Registers a single method as an event handler if it meets the criteria.
+     * Loads the generated registrar of a handler list class.
      *
-     * @param method the method to register, must not be {@code null}
-     * @param ob the object instance that contains the method
-     * @throws ProcessHandlerException if the handler method cannot be invoked during event processing
+     * @param type the handler list class
+     * @return the registrar, or an empty optional if the class has none
+     * @throws EventRegistrationException if the registrar exists but cannot be instantiated
      */
-    private static void register(@NotNull Method method, HandlerList ob) {
-        if (!method.isAnnotationPresent(Handler.class)) return;
-        if (method.getParameterCount() != 1) return;
-        method.setAccessible(true);
+    private static @NotNull Optional<HandlerRegistrar<?>> loadRegistrar(@NotNull Class<?> type) {
+        Class<?> registrar;
+        try {
+            registrar = Class.forName(type.getName() + HandlerRegistrar.SUFFIX, true, type.getClassLoader());
+        } catch (ClassNotFoundException | LinkageError ex) {
+            return Optional.empty();
+        }
+        if (!HandlerRegistrar.class.isAssignableFrom(registrar)) return Optional.empty();
 
+        try {
+            return Optional.of((HandlerRegistrar<?>) registrar.getConstructor().newInstance());
+        } catch (ReflectiveOperationException ex) {
+            throw new EventRegistrationException("Fail to create registrar " + registrar.getName(), ex);
+        }
+    }
+
+    /**
+     * Receives the handlers of a generated registrar for one registration.
+     *
+     * @param owner the registered handler list class
+     * @param key the routing key of the registration, or {@code null} for none
+     * @param handlers collects the registered handler per executor
+     */
+    private record RegistrarSink(Class<?> owner, Identifier<?> key, Map<EventExecutor, List<Consumer<Event>>> handlers)
+            implements HandlerRegistrar.Sink {
 
-        HandlerInfo info = HandlerInfo.of(method);
+        @Override
+        public void handler(@NotNull String name, @NotNull HandlerInfo info, @NotNull Consumer<Event> handler) {
+            register(info, HandlerInvoker.of(owner, name, handler), key, handlers);
+        }
+
+        @Override
+        public void batch(@NotNull String name, @NotNull HandlerInfo info, @NotNull Consumer<List<Event>> handler) {
+            register(info, BatchInvoker.of(owner, name, handler), key, handlers);
+        }
+    }
+
+    /**
+     * Registers a single handler outside of any {@link HandlerList}, used by bus extensions.
+     *
+     * @param info the declared type and level of the handler
+     * @param handler the handler to register
+     */
+    static void attach(@NotNull HandlerInfo info, @NotNull Consumer<Event> handler) {
+        executors.executor(info.type()).register(info, handler);
+        executors.invalidate();
+    }
+
+    /**
+     * Removes a handler registered with {@link #attach(HandlerInfo, Consumer)}.
+     *
+     * @param type the declared type of the handler
+     * @param handler the handler to remove
+     */
+    static void detach(@NotNull Class<?> type, @NotNull Consumer<Event> handler) {
+        executors.executor(type).unregisterAll(List.of(handler), null);
+        executors.removed(List.of(handler));
+    }
+
+    /**
+     * Returns the merged executor running every handler applicable to the given event class.
+     *
+     * @param type the concrete class of the fired event
+     * @return the resolved executor
+     */
+    static @NotNull EventExecutor resolve(@NotNull Class<?> type) {
+        return executors.resolve(type);
+    }
+
+    /**
+     * Called once a subscription has removed its handlers.
+     *
+     * @param subscription the closed subscription
+     */
+    private static void closed(@NotNull Subscription subscription) {
+        executors.removed(subscription.handlers());
 
-        executors.computeIfAbsent(info.type(),
-                        unused -> new EventExecutor())
-                .register(info, e -> {
-                    try { method.invoke(ob, e);}
-                    catch (IllegalAccessException | InvocationTargetException ex) {
-                        throw new ProcessHandlerException("Fail to Process Handler", ex);
-                    }
-                });
+        ApiModule owner = subscription.owner();
+        if (owner == null) return;
+        // drop the entry with the last subscription so the module does not stay reachable
+        owned.computeIfPresent(owner, (unused, subscriptions) -> {
+            subscriptions.remove(subscription);
+            return subscriptions.isEmpty() ? null : subscriptions;
+        });
     }
 
 }
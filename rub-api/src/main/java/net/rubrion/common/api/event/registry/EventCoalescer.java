@@ -0,0 +1,204 @@
+/**
+ * RPL-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the RPL-LICENSE. <br>
+ * License at: <a href="https://github.com/rubrionmc/.github/blob/main/licensens/RUBRION_PUBLIC">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <leycm@proton.me> <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package net.rubrion.common.api.event.registry;
+
+import net.rubrion.common.api.event.Event;
+import net.rubrion.common.api.event.able.Coalescable;
+import net.rubrion.common.api.id.Identifier;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects {@link Coalescable} events and fires only the latest state per type and key.
+ * <p>
+ * Submitted events wait in a concurrent map keyed by their concrete class and
+ * {@link Coalescable#key() key}. An event submitted while another one with the same class and
+ * key is pending is merged into it with {@link Coalescable#coalesce(Event)}, so a burst of
+ * updates for one entity costs a single handler invocation per flush.
+ * </p>
+ * <p>
+ * Pending events are fired with {@link EventBus#fireAll(java.util.Collection)} on every
+ * {@link #flush()}. A coalescer created with a window flushes on its own daemon thread, one
+ * created without is flushed by the caller, typically once per server tick. Events of different
+ * keys are not fired in submission order.
+ * </p>
+ * <p>
+ * Pooled events are returned to their pool once fired, and as soon as they are merged into
+ * another event, so {@link Coalescable#coalesce(Event)} must not keep a reference to the event
+ * it replaces.
+ * </p>
+ *
+ * @author LeyCM
+ * @since 1.1.2
+ * @see Coalescable
+ */
+public final class EventCoalescer implements AutoCloseable {
+    private static final AtomicInteger COALESCERS = new AtomicInteger();
+
+    private final Map<Key, Event> pending = new ConcurrentHashMap<>();
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder fired = new LongAdder();
+    private final ScheduledExecutorService scheduler;
+    private volatile boolean closed;
+
+    /**
+     * Creates a new coalescer that is flushed manually through {@link #flush()}.
+     *
+     * @author LeyCM
+     * @since 1.1.2
+     */
+    public EventCoalescer() {
+        this.scheduler = null;
+    }
+
+    /**
+     * Creates a new coalescer flushing all pending events once per window on its own daemon thread.
+     * A failing handler does not stop the flushes; its exception is passed to the uncaught
+     * exception handler of the flushing thread.
+     *
+     * @param window the time between two flushes, must be positive
+     * @throws IllegalArgumentException if {@code window} is not positive
+     * @author LeyCM
+     * @since 1.1.2
+     */
+    public EventCoalescer(@NotNull Duration window) {
+        if (window.isNegative() || window.isZero()) throw new IllegalArgumentException("window must be positive");
+
+        String name = "rub-coalescer-" + COALESCERS.incrementAndGet();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, name);
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        long nanos = window.toNanos();
+        scheduler.scheduleAtFixedRate(this::scheduledFlush, nanos, nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Submits an event to be fired on the next flush, merging it with a pending event of the
+     * same class and key. An event accepted while the coalescer is being closed is fired by
+     * {@link #close()} or, if that already flushed, by this call on the calling thread.
+     *
+     * @param event the event to fire, must not be {@code null}
+     * @param <E> the type of the event
+     * @return {@code true} if the event was accepted, {@code false} if the coalescer is closed
+     * @author LeyCM
+     * @since 1.1.2
+     */
+    @SuppressWarnings("unchecked")
+    public <E extends Event & Coalescable<E>> boolean submit(@NotNull E event) {
+        if (closed) return false;
+
+        submitted.increment();
+        pending.merge(new Key(event.getClass(), event.key()), event, (previous, next) -> {
+            Event merged = ((E) next).coalesce((E) previous);
+            if (previous != merged) EventBus.release(previous);
+            if (next != merged) EventBus.release(next);
+            return merged;
+        });
+
+        // closed while merging, the final flush of close may have run before the event was pending
+        if (closed) flush();
+        return true;
+    }
+
+    /**
+     * Fires all pending events.
+     * Events submitted while flushing are either fired by this flush or stay pending for the next one.
+     *
+     * @return the number of fired events
+     * @author LeyCM
+     * @since 1.1.2
+     */
+    public int flush() {
+        if (pending.isEmpty()) return 0;
+
+        List<Event> events = new ArrayList<>(pending.size());
+        for (Key key : pending.keySet()) {
+            Event event = pending.remove(key);
+            if (event != null) events.add(event);
+        }
+
+        fired.add(events.size());
+        EventBus.fireAll(events);
+        return events.size();
+    }
+
+    /**
+     * Returns the number of events waiting for the next flush.
+     *
+     * @return the number of pending keys
+     * @author LeyCM
+     * @since 1.1.2
+     */
+    public int size() {
+        return pending.size();
+    }
+
+    /**
+     * Returns the number of submitted events that were merged into another event instead of being fired.
+     * Pending events are not counted until they are merged.
+     *
+     * @return the number of saved fires since creation
+     * @author LeyCM
+     * @since 1.1.2
+     */
+    public long coalesced() {
+        return submitted.sum() - fired.sum() - pending.size();
+    }
+
+    /**
+     * Stops accepting events, stops the flushing thread and fires the remaining pending events
+     * on the calling thread.
+     *
+     * @author LeyCM
+     * @since 1.1.2
+     */
+    @Override
+    public void close() {
+        closed = true;
+        if (scheduler != null) {
+            scheduler.shutdown();
+            boolean interrupted = false;
+            while (!scheduler.isTerminated()) {
+                try { scheduler.awaitTermination(1, TimeUnit.SECONDS); }
+                catch (InterruptedException ex) { interrupted = true; }
+            }
+            if (interrupted) Thread.currentThread().interrupt();
+        }
+        flush();
+    }
+
+    private void scheduledFlush() {
+        try { flush(); }
+        catch (Throwable ex) {
+            Thread thread = Thread.currentThread();
+            thread.getUncaughtExceptionHandler().uncaughtException(thread, ex);
+        }
+    }
+
+    /**
+     * Identifies the pending event of one concrete class and key.
+     */
+    private record Key(Class<?> type, Identifier<?> key) { }
+
+}
@@ -0,0 +1,56 @@
+/**
+ * RPL-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the RPL-LICENSE. <br>
+ * License at: <a href="https://github.com/rubrionmc/.github/blob/main/licensens/RUBRION_PUBLIC">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <leycm@proton.me> <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package net.rubrion.common.api.event.registry;
+
+import net.rubrion.common.api.event.Event;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Binary serializer of one event type for the {@link EventBridge}.
+ * <p>
+ * The codec only writes the payload of the event; the bridge adds the type id and length.
+ * {@link #read(DataInput)} must read exactly what {@link #write(Event, DataOutput)} wrote.
+ * </p>
+ *
+ * @param <E> the serialized event type
+ * @author LeyCM
+ * @since 1.1.2
+ * @see EventBridge#bridge(Class, String, EventCodec)
+ */
+public interface EventCodec<E extends Event> {
+
+    /**
+     * Writes the payload of an event.
+     *
+     * @param event the event to serialize
+     * @param out the target to write to
+     * @throws IOException if writing fails
+     * @author LeyCM
+     * @since 1.1.2
+     */
+    void write(@NotNull E event, @NotNull DataOutput out) throws IOException;
+
+    /**
+     * Reads an event written by {@link #write(Event, DataOutput)}.
+     *
+     * @param in the source to read from
+     * @return a new event with the read payload
+     * @throws IOException if reading fails or the payload is malformed
+     * @author LeyCM
+     * @since 1.1.2
+     */
+    @NotNull E read(@NotNull DataInput in) throws IOException;
+
+}
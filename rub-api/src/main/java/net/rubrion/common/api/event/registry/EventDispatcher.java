@@ -0,0 +1,32 @@
+/**
+ * RPL-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the RPL-LICENSE. <br>
+ * License at: <a href="https://github.com/rubrionmc/.github/blob/main/licensens/RUBRION_PUBLIC">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <leycm@proton.me> <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package net.rubrion.common.api.event.registry;
+
+import net.rubrion.common.api.event.Event;
+
+/**
+ * Dispatches an event to a fixed set of handlers in priority order.
+ * Implemented by the hidden classes defined from {@link DispatcherTemplate}.
+ *
+ * @author LeyCM
+ * @since 1.1.2
+ * @see DispatcherCompiler
+ */
+interface EventDispatcher {
+
+    /**
+     * Dispatches the event to every handler of this dispatcher.
+     *
+     * @param event the event to dispatch
+     */
+    void dispatch(Event event);
+
+}
@@ -11,17 +11,35 @@
 package net.rubrion.common.api.event.registry;
 
 import net.rubrion.common.api.event.Event;
+import net.rubrion.common.api.event.able.Cancelable;
+import net.rubrion.common.api.event.able.Keyed;
 import net.rubrion.common.api.event.able.Monitorable;
 import net.rubrion.common.api.event.exception.NotMonitorableException;
+import net.rubrion.common.api.event.exception.ProcessHandlerException;
 import net.rubrion.common.api.event.handler.*;
+import net.rubrion.common.api.id.Identifier;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.function.Consumer;
 
 /**
  * Executes event handlers for different handler levels.
  * This class manages handlers by priority level and ensures proper event handling order.
+ * <p>
+ * Handlers are kept in an immutable {@link HandlerSnapshot} that is replaced atomically on
+ * every registration change. Firing reads the current snapshot once and walks its array,
+ * so it never blocks, never allocates and is safe while other threads register handlers.
+ * </p>
+ * <p>
+ * Handlers registered with {@link Handler#parallel()} are forked onto a {@link ForkJoinPool}
+ * after the other handlers of their level ran, and joined before the next level starts.
+ * </p>
  *
  * @author LeyCM
  * @since 1.1.2
@@ -30,7 +48,52 @@ import java.util.function.Consumer;
  * @see HandlerPriority
  */
 public final class EventExecutor {
-    private final Map<HandlerPriority, Set<Consumer<Event>>> handlers = new EnumMap<>(HandlerPriority.class);
+    private static final VarHandle SNAPSHOT;
+    private static final VarHandle VERSION;
+    private static final int MONITOR = HandlerPriority.MONITOR.ordinal();
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            SNAPSHOT = lookup.findVarHandle(EventExecutor.class, "snapshot", HandlerSnapshot.class);
+            VERSION = lookup.findVarHandle(EventExecutor.class, "version", int.class);
+        } catch (ReflectiveOperationException ex) {
+            throw new ExceptionInInitializerError(ex);
+        }
+    }
+
+    private volatile HandlerSnapshot snapshot;
+    private volatile int version;
+    private volatile boolean compiled;
+    private volatile Compiled dispatcher;
+    private volatile MonitorExecutor monitors;
+    private volatile ForkJoinPool parallelPool;
+
+    /**
+     * Creates a new executor without any handlers.
+     *
+     * @author LeyCM
+     * @since 1.1.2
+     */
+    public EventExecutor() {
+        this(HandlerSnapshot.empty(), false, null, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates an executor over a prebuilt snapshot, used for resolved type hierarchies.
+     *
+     * @param snapshot the handlers of this executor
+     * @param compiled whether compiled dispatch is enabled
+     * @param monitors the executor for monitor handlers, or {@code null} to run them inline
+     * @param parallelPool the pool parallel handlers are forked onto
+     */
+    EventExecutor(@NotNull HandlerSnapshot snapshot, boolean compiled, @Nullable MonitorExecutor monitors,
+                  @NotNull ForkJoinPool parallelPool) {
+        this.snapshot = snapshot;
+        this.compiled = compiled;
+        this.monitors = monitors;
+        this.parallelPool = parallelPool;
+    }
 
     /**
      * Fires an event to all registered handlers in order of their priority levels.
@@ -39,20 +102,124 @@ public final class EventExecutor {
      * The execution order is: {@link HandlerPriority#EARLY} → {@link HandlerPriority#NORMAL} →
      * {@link HandlerPriority#LATE} → {@link HandlerPriority#MONITOR}.
      *
+     * <p>Handlers registered with {@link Handler#ignoreCanceled()} are skipped for every level that
+     * starts while the event is {@link Cancelable#isCanceled() canceled}.
+     *
+     * <p>Handlers registered with {@link Handler#parallel()} run concurrently after the other
+     * handlers of their level. If one of them throws, the others are still joined before the
+     * first exception is propagated. Compiled dispatch is not used while parallel handlers exist.
+     *
+     * <p>If the event is {@link Keyed}, only the handlers registered without key and the handlers
+     * registered for its {@link Keyed#key() key} are called. Keyed routes are always iterated,
+     * compiled dispatch only covers events without a key specific handler.
+     *
      * @param event the event to fire to all registered handlers
      * @author LeyCM
      * @since 1.1.2
      * @see Monitorable#copy()
      */
     public void fire(Event event) {
-        for (Map.Entry<HandlerPriority, Set<Consumer<Event>>> entry : handlers.entrySet()) {
-            HandlerPriority level = entry.getKey();
-            Set<Consumer<Event>> set = entry.getValue();
+        HandlerSnapshot current = snapshot;
+        if (current.isKeyed() && event instanceof Keyed keyed) {
+            HandlerSnapshot route = current.route(keyed.key());
+            if (route != current) {
+                fire(route, event);
+                return;
+            }
+        }
 
-            Event toFire = prepareEventForHandling(event, level);
+        if (compiled && current.parallelLevels() == 0) dispatcher(current).dispatch(event);
+        else fire(current, event);
+    }
 
-            set.forEach(h -> h.accept(toFire));
+    /**
+     * Fires an event by iterating the handler array of the given snapshot.
+     *
+     * @param current the snapshot to fire
+     * @param event the event to fire
+     */
+    private void fire(@NotNull HandlerSnapshot current, Event event) {
+        Consumer<Event>[] handlers = current.handlers();
+        int monitor = current.monitor();
+
+        if (current.parallelLevels() != 0) fireParallel(current, event);
+        else if (current.skipsCanceled() && event instanceof Cancelable cancelable) fireCancelable(current, event, cancelable);
+        else for (int i = 0; i < monitor; i++) handlers[i].accept(event);
+
+        if (monitor != handlers.length) fireMonitors(event, handlers, monitor);
+    }
+
+    /**
+     * Fires a batch of events, running every handler over the whole batch before the next one.
+     *
+     * <p>Each event still passes the priority levels in order, but within a level a handler
+     * is called for all events in a row, and a {@link BatchInvoker batch handler} is called once
+     * with the whole batch. The snapshot is read once for the batch and compiled dispatch is not
+     * used. Handlers registered with {@link Handler#ignoreCanceled()} only see the events that
+     * were not canceled when their level started.
+     *
+     * <p>{@link Keyed} events are grouped by the handlers their key routes to and each group is
+     * fired as its own batch, in order of the first event of the group.
+     *
+     * <p>If a handler throws, the exception is propagated and the remaining handlers of the
+     * batch are not run.
+     *
+     * @param events the events to fire, all handled by this executor, must not be {@code null}
+     * @author LeyCM
+     * @since 1.1.2
+     * @see #fire(Event)
+     */
+    public void fireAll(@NotNull List<? extends Event> events) {
+        if (events.isEmpty()) return;
+
+        HandlerSnapshot current = snapshot;
+        if (!current.isKeyed()) {
+            fireAll(current, events);
+            return;
+        }
+
+        Map<HandlerSnapshot, List<Event>> routes = new LinkedHashMap<>();
+        for (Event event : events) {
+            HandlerSnapshot route = event instanceof Keyed keyed ? current.route(keyed.key()) : current;
+            routes.computeIfAbsent(route, unused -> new ArrayList<>()).add(event);
+        }
+        routes.forEach(this::fireAll);
+    }
+
+    /**
+     * Fires a batch of events against the handler arrays of the given snapshot.
+     *
+     * @param current the snapshot to fire
+     * @param events the events to fire
+     */
+    private void fireAll(@NotNull HandlerSnapshot current, @NotNull List<? extends Event> events) {
+        Consumer<Event>[] handlers = current.handlers();
+        boolean[] skips = current.skips();
+        boolean[] parallel = current.parallel();
+        int[] offsets = current.offsets();
+        List<Event> batch = Collections.unmodifiableList(events);
+
+        for (int l = 0; l < MONITOR; l++) {
+            if (offsets[l] == offsets[l + 1]) continue;
+
+            List<Event> running = current.skipsCanceled() ? running(batch) : batch;
+            if ((current.parallelLevels() & 1 << l) == 0) {
+                for (int i = offsets[l]; i < offsets[l + 1]; i++) fireBatch(handlers[i], skips[i] ? running : batch);
+                continue;
+            }
+
+            List<Runnable> forked = new ArrayList<>();
+            for (int i = offsets[l]; i < offsets[l + 1]; i++) {
+                Consumer<Event> handler = handlers[i];
+                List<Event> target = skips[i] ? running : batch;
+                if (parallel[i]) forked.add(() -> fireBatch(handler, target));
+                else fireBatch(handler, target);
+            }
+            fork(forked);
         }
+
+        int monitor = current.monitor();
+        if (monitor != handlers.length) fireMonitors(batch, handlers, monitor);
     }
 
     /**
@@ -66,14 +233,409 @@ public final class EventExecutor {
      * @since 1.1.2
      */
     public void register(@NotNull HandlerInfo info, @NotNull Consumer<Event> handler) {
+        register(info, handler, null);
+    }
+
+    /**
+     * Registers a handler for a specific handler level that only receives events with the given routing key.
+     *
+     * <p>A handler registered for a key is only called for {@link Keyed} events whose
+     * {@link Keyed#key()} equals {@code key}. Firing such an event costs the handlers without key
+     * plus the handlers of its key, no matter how many other keys have handlers.
+     *
+     * @param info the handler annotation containing event type and level information, must not be {@code null}
+     * @param handler the consumer that will process the event, must not be {@code null}
+     * @param key the routing key, or {@code null} to receive every event
+     * @throws NotMonitorableException if level requires monitoring but event class doesn't implement Monitorable
+     * @author LeyCM
+     * @since 1.1.2
+     * @see Keyed
+     */
+    public void register(@NotNull HandlerInfo info, @NotNull Consumer<Event> handler, @Nullable Identifier<?> key) {
         if(info.isMonitorable())
             throw new NotMonitorableException("Try to register an Handler on Monitor level " +
                     " for the not Monitorable event " + info.type().getSimpleName());
 
-        handlers.computeIfAbsent(info.level(), unused -> new HashSet<>())
-                .add(handler);
+        HandlerSnapshot current, next;
+        do {
+            current = snapshot;
+            next = current.with(info, handler, key);
+        } while (next != current && !SNAPSHOT.compareAndSet(this, current, next));
+        changed();
     }
 
+    /**
+     * Removes a handler from every handler level and routing key.
+     * Fires already in progress finish with the handlers they started with.
+     *
+     * @param handler the consumer to remove, must not be {@code null}
+     * @return {@code true} if the handler was registered, {@code false} otherwise
+     * @author LeyCM
+     * @since 1.1.2
+     */
+    public boolean unregister(@NotNull Consumer<Event> handler) {
+        boolean keyed = snapshot.removeKeyed(Set.of(handler));
+
+        HandlerSnapshot current, next;
+        do {
+            current = snapshot;
+            next = current.without(handler);
+            if (next == current) {
+                if (keyed) changed();
+                return keyed;
+            }
+        } while (!SNAPSHOT.compareAndSet(this, current, next));
+        changed();
+        return true;
+    }
+
+    /**
+     * Removes several handlers from every handler level with a single snapshot swap.
+     * Fires already in progress finish with the handlers they started with.
+     * <p>
+     * Membership of the removed handlers is checked in O(1), but the new snapshot copies the
+     * remaining handlers, so removal costs O(n) in the handlers of this executor, once per call.
+     * Every routing key is checked as well; use {@link #unregisterAll(Collection, Identifier)}
+     * if the key of the handlers is known.
+     * </p>
+     *
+     * @param handlers the consumers to remove, compared by identity, must not be {@code null}
+     * @author LeyCM
+     * @since 1.1.2
+     */
+    public void unregisterAll(@NotNull Collection<? extends Consumer<Event>> handlers) {
+        Set<Consumer<Event>> removed = identitySet(handlers);
+        snapshot.removeKeyed(removed);
+        unregisterUnkeyed(removed);
+        changed();
+    }
+
+    /**
+     * Removes several handlers registered for one routing key.
+     * <p>
+     * Only the handlers of {@code key} are rebuilt, so removal costs O(n) in the handlers of
+     * that key, no matter how many other keys have handlers. Handlers without key are removed
+     * like {@link #unregisterAll(Collection)} does.
+     * </p>
+     *
+     * @param handlers the consumers to remove, compared by identity, must not be {@code null}
+     * @param key the routing key the handlers were registered for, or {@code null} for handlers without key
+     * @author LeyCM
+     * @since 1.1.2
+     * @see #register(HandlerInfo, Consumer, Identifier)
+     */
+    public void unregisterAll(@NotNull Collection<? extends Consumer<Event>> handlers, @Nullable Identifier<?> key) {
+        Set<Consumer<Event>> removed = identitySet(handlers);
+        if (key != null) snapshot.removeKeyed(removed, key);
+        else unregisterUnkeyed(removed);
+        changed();
+    }
+
+    /**
+     * Swaps in a snapshot without the given handlers registered without key.
+     *
+     * @param removed the handlers to remove
+     */
+    private void unregisterUnkeyed(@NotNull Set<Consumer<Event>> removed) {
+        HandlerSnapshot current, next;
+        do {
+            current = snapshot;
+            next = current.without(removed);
+        } while (next != current && !SNAPSHOT.compareAndSet(this, current, next));
+    }
+
+    /**
+     * Counts a change of the handlers or the dispatch mode, after it was applied.
+     */
+    private void changed() {
+        VERSION.getAndAdd(this, 1);
+    }
+
+    /**
+     * Copies handlers into a set compared by identity.
+     *
+     * @param handlers the handlers
+     * @return a new identity set of the handlers
+     */
+    private static @NotNull Set<Consumer<Event>> identitySet(@NotNull Collection<? extends Consumer<Event>> handlers) {
+        Set<Consumer<Event>> removed = Collections.newSetFromMap(new IdentityHashMap<>());
+        removed.addAll(handlers);
+        return removed;
+    }
+
+    /**
+     * Checks if no handler is registered on this executor.
+     *
+     * @return {@code true} if there are no handlers, {@code false} otherwise
+     * @author LeyCM
+     * @since 1.1.2
+     */
+    public boolean isEmpty() {
+        return snapshot.isEmpty();
+    }
+
+    /**
+     * Returns the number of changes to the handlers and the dispatch mode of this executor.
+     * The counter is increased after a change was applied, so a snapshot read after the counter
+     * contains at least the changes counted so far.
+     *
+     * @return the change counter
+     */
+    int version() {
+        return version;
+    }
+
+    /**
+     * Returns the current handler snapshot.
+     *
+     * @return the snapshot fires currently run against
+     */
+    @NotNull HandlerSnapshot snapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Enables or disables compiled dispatch for this executor.
+     *
+     * <p>In compiled mode, {@link #fire(Event)} calls a dispatcher defined as a hidden class for
+     * this executor alone, which invokes the registered handlers in priority order as straight-line
+     * code. The dispatcher is generated lazily on the next fire and regenerated whenever the
+     * handlers change, so compiled mode is meant for hot event types with a stable set of handlers.
+     *
+     * @param compiled {@code true} to dispatch through a generated class, {@code false} to iterate the handler array
+     * @author LeyCM
+     * @since 1.1.2
+     * @see DispatcherCompiler
+     */
+    public void compiled(boolean compiled) {
+        this.compiled = compiled;
+        changed();
+    }
+
+    /**
+     * Sets the executor that runs the monitor handlers of this executor.
+     *
+     * @param monitors the background executor for monitor handlers, or {@code null} to run them inline
+     * @author LeyCM
+     * @since 1.1.2
+     * @see MonitorExecutor
+     */
+    public void monitors(@Nullable MonitorExecutor monitors) {
+        this.monitors = monitors;
+    }
+
+    /**
+     * Sets the pool the {@link Handler#parallel()} handlers of this executor are forked onto.
+     *
+     * @param parallelPool the pool for parallel handlers, must not be {@code null}
+     * @author LeyCM
+     * @since 1.1.2
+     */
+    public void parallelPool(@NotNull ForkJoinPool parallelPool) {
+        this.parallelPool = parallelPool;
+    }
+
+    /**
+     * Checks if this executor dispatches through a generated class.
+     *
+     * @return {@code true} if compiled dispatch is enabled, {@code false} otherwise
+     * @author LeyCM
+     * @since 1.1.2
+     * @see #compiled(boolean)
+     */
+    public boolean isCompiled() {
+        return compiled;
+    }
+
+    /**
+     * Runs the non-monitor levels of a cancelable event. The canceled state is checked once per
+     * level; while the event is canceled, the level runs from the array without skipping handlers.
+     *
+     * @param snapshot the snapshot being fired
+     * @param event the original event
+     * @param cancelable the same event as {@link Cancelable}
+     */
+    private static void fireCancelable(@NotNull HandlerSnapshot snapshot, Event event, @NotNull Cancelable cancelable) {
+        Consumer<Event>[] handlers = snapshot.handlers();
+        Consumer<Event>[] canceled = snapshot.canceled();
+        int[] offsets = snapshot.offsets();
+        int[] canceledOffsets = snapshot.canceledOffsets();
+
+        for (int l = 0; l < MONITOR; l++) {
+            if (cancelable.isCanceled()) {
+                for (int i = canceledOffsets[l]; i < canceledOffsets[l + 1]; i++) canceled[i].accept(event);
+            } else {
+                for (int i = offsets[l]; i < offsets[l + 1]; i++) handlers[i].accept(event);
+            }
+        }
+    }
+
+    /**
+     * Runs the non-monitor levels of a snapshot with parallel handlers. Within a level, the
+     * sequential handlers run first, then the parallel handlers are forked and joined.
+     *
+     * @param snapshot the snapshot being fired
+     * @param event the event to fire
+     */
+    private void fireParallel(@NotNull HandlerSnapshot snapshot, Event event) {
+        Consumer<Event>[] handlers = snapshot.handlers();
+        boolean[] skips = snapshot.skips();
+        boolean[] parallel = snapshot.parallel();
+        int[] offsets = snapshot.offsets();
+        Cancelable cancelable = snapshot.skipsCanceled() && event instanceof Cancelable c ? c : null;
+
+        for (int l = 0; l < MONITOR; l++) {
+            if (offsets[l] == offsets[l + 1]) continue;
+
+            boolean canceled = cancelable != null && cancelable.isCanceled();
+            List<Runnable> forked = new ArrayList<>();
+            for (int i = offsets[l]; i < offsets[l + 1]; i++) {
+                if (canceled && skips[i]) continue;
+
+                Consumer<Event> handler = handlers[i];
+                if (parallel[i]) forked.add(() -> handler.accept(event));
+                else handler.accept(event);
+            }
+            fork(forked);
+        }
+    }
+
+    /**
+     * Runs the given tasks concurrently, one on the calling thread and the others on the parallel
+     * pool, and waits for all of them.
+     *
+     * @param tasks the tasks to run
+     * @throws RuntimeException the first exception thrown by a task, with the others suppressed
+     */
+    private void fork(@NotNull List<Runnable> tasks) {
+        if (tasks.isEmpty()) return;
+        if (tasks.size() == 1) {
+            tasks.get(0).run();
+            return;
+        }
+
+        ForkJoinPool pool = parallelPool;
+        ForkJoinTask<?>[] forked = new ForkJoinTask<?>[tasks.size() - 1];
+        for (int i = 1; i < tasks.size(); i++) forked[i - 1] = pool.submit(tasks.get(i));
+
+        Throwable failure = null;
+        try { tasks.get(0).run(); }
+        catch (Throwable ex) { failure = ex; }
+
+        for (ForkJoinTask<?> task : forked) {
+            try { task.join(); }
+            catch (Throwable ex) {
+                if (failure == null) failure = ex;
+                else failure.addSuppressed(ex);
+            }
+        }
+
+        if (failure instanceof RuntimeException ex) throw ex;
+        if (failure instanceof Error ex) throw ex;
+        if (failure != null) throw new ProcessHandlerException(failure);
+    }
+
+    /**
+     * Runs the monitor handlers {@code handlers[from..]} on a copy of the event, either inline
+     * or on the configured {@link MonitorExecutor}.
+     *
+     * @param event the original event
+     * @param handlers the handler array of the firing snapshot
+     * @param from the index of the first monitor handler
+     */
+    private void fireMonitors(Event event, Consumer<Event> @NotNull [] handlers, int from) {
+        Event copy = prepareEventForHandling(event, HandlerPriority.MONITOR);
+
+        MonitorExecutor executor = monitors;
+        if (executor != null) {
+            executor.submit(copy, handlers, from);
+            return;
+        }
+
+        for (int i = from; i < handlers.length; i++) handlers[i].accept(copy);
+    }
+
+    /**
+     * Runs the monitor handlers {@code handlers[from..]} handler by handler over copies of the
+     * events, either inline or on the configured {@link MonitorExecutor}.
+     *
+     * @param events the original events
+     * @param handlers the handler array of the firing snapshot
+     * @param from the index of the first monitor handler
+     */
+    private void fireMonitors(@NotNull List<Event> events, Consumer<Event> @NotNull [] handlers, int from) {
+        List<Event> copies = new ArrayList<>(events.size());
+        for (Event event : events) copies.add(prepareEventForHandling(event, HandlerPriority.MONITOR));
+        List<Event> batch = Collections.unmodifiableList(copies);
+
+        MonitorExecutor executor = monitors;
+        if (executor != null) {
+            executor.submitAll(batch, handlers, from);
+            return;
+        }
+
+        for (int i = from; i < handlers.length; i++) fireBatch(handlers[i], batch);
+    }
+
+    /**
+     * Calls one handler for every event of a batch, or once with the whole batch for a {@link BatchHandler}.
+     *
+     * @param handler the handler to call
+     * @param events the events to pass
+     */
+    static void fireBatch(@NotNull Consumer<Event> handler, @NotNull List<Event> events) {
+        if (events.isEmpty()) return;
+        if (handler instanceof BatchHandler batch) {
+            batch.acceptAll(events);
+            return;
+        }
+
+        for (int i = 0, size = events.size(); i < size; i++) handler.accept(events.get(i));
+    }
+
+    /**
+     * Returns the events of a batch that are not canceled.
+     *
+     * @param events the batch
+     * @return the batch itself if no event is canceled, otherwise a filtered copy
+     */
+    private static @NotNull List<Event> running(@NotNull List<Event> events) {
+        List<Event> running = null;
+        for (int i = 0, size = events.size(); i < size; i++) {
+            Event event = events.get(i);
+            boolean canceled = event instanceof Cancelable cancelable && cancelable.isCanceled();
+
+            if (canceled && running == null) running = new ArrayList<>(events.subList(0, i));
+            else if (!canceled && running != null) running.add(event);
+        }
+        return running == null ? events : Collections.unmodifiableList(running);
+    }
+
+    /**
+     * Returns the compiled dispatcher for the given snapshot, generating it on first use.
+     * Concurrent first calls may compile twice, which is harmless as both results are equivalent.
+     *
+     * @param snapshot the snapshot being fired
+     * @return the dispatcher calling exactly the handlers of the snapshot
+     */
+    private @NotNull EventDispatcher dispatcher(@NotNull HandlerSnapshot snapshot) {
+        Compiled current = dispatcher;
+        if (current != null && current.snapshot() == snapshot) return current.dispatcher();
+
+        Consumer<Event>[] handlers = snapshot.handlers();
+        int monitor = snapshot.monitor();
+        Consumer<Event> fanout = monitor == handlers.length ? null : e -> fireMonitors(e, handlers, monitor);
+
+        EventDispatcher compiled = DispatcherCompiler.compile(snapshot, fanout);
+        dispatcher = new Compiled(snapshot, compiled);
+        return compiled;
+    }
+
+    /**
+     * A compiled dispatcher together with the snapshot it was generated for.
+     */
+    private record Compiled(HandlerSnapshot snapshot, EventDispatcher dispatcher) { }
+
     /**
      * Prepares an event for handling based on the handler level.
      * For monitor levels, creates a copy of monitorable events.
@@ -82,10 +644,10 @@ public final class EventExecutor {
      * @param level the handler level
      * @return the event to be handled (original or copy)
      */
-    private Event prepareEventForHandling(Event event, @NotNull HandlerPriority level) {
+    static Event prepareEventForHandling(Event event, @NotNull HandlerPriority level) {
         if (level.isMonitor() && event instanceof Monitorable<?> m) return m.copy();
 
         return event;
     }
 
-}
\ No newline at end of file
+}
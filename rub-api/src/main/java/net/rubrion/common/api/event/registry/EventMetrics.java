@@ -0,0 +1,141 @@
+/**
+ * RPL-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the RPL-LICENSE. <br>
+ * License at: <a href="https://github.com/rubrionmc/.github/blob/main/licensens/RUBRION_PUBLIC">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <leycm@proton.me> <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package net.rubrion.common.api.event.registry;
+
+import net.rubrion.common.api.event.Event;
+import net.rubrion.common.api.event.handler.HandlerPriority;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Per-handler latency and throughput instrumentation for the {@link EventBus}.
+ * <p>
+ * Once installed through {@link EventBus#metrics(EventMetrics)}, every resolved handler chain
+ * is rebuilt with each handler wrapped in a measuring decorator. Statistics are kept per
+ * handler, priority level and concrete event type: each call is counted and one out of
+ * {@link #sampleRate()} calls is timed into a log<sub>2</sub> latency histogram. Removing the
+ * metrics again restores the undecorated chains, so disabled instrumentation costs nothing.
+ * </p>
+ * <p>
+ * Counters survive re-resolution, so registering or unregistering unrelated handlers does
+ * not reset them. The statistics of a handler are dropped once it is unregistered from the
+ * bus, so closed subscriptions do not stay reachable through their decorators. Handlers of
+ * executors used directly, without the {@link EventBus}, are not measured.
+ * </p>
+ *
+ * @author LeyCM
+ * @since 1.1.2
+ * @see HandlerStats
+ */
+public final class EventMetrics {
+    private final int sampleRate;
+    private final Map<Consumer<Event>, Map<Site, MeasuredHandler>> handlers = new ConcurrentHashMap<>();
+
+    /**
+     * Creates new metrics timing one out of {@code sampleRate} handler calls.
+     *
+     * @param sampleRate the sampling rate, {@code 1} to time every call, must be positive
+     * @throws IllegalArgumentException if {@code sampleRate} is not positive
+     * @author LeyCM
+     * @since 1.1.2
+     */
+    public EventMetrics(int sampleRate) {
+        if (sampleRate < 1) throw new IllegalArgumentException("sampleRate must be positive");
+        this.sampleRate = sampleRate;
+    }
+
+    /**
+     * Returns the sampling rate of these metrics.
+     *
+     * @return one out of how many calls is timed
+     * @author LeyCM
+     * @since 1.1.2
+     */
+    public int sampleRate() {
+        return sampleRate;
+    }
+
+    /**
+     * Captures the statistics of all measured handlers, the most expensive handler first.
+     *
+     * @return an immutable list of statistics ordered by descending {@link HandlerStats#estimatedNanos()}
+     * @author LeyCM
+     * @since 1.1.2
+     */
+    public @NotNull List<HandlerStats> snapshot() {
+        List<HandlerStats> stats = new ArrayList<>(handlers.size());
+        for (Map<Site, MeasuredHandler> sites : handlers.values())
+            for (MeasuredHandler handler : sites.values()) stats.add(handler.stats());
+        stats.sort(Comparator.comparingLong(HandlerStats::estimatedNanos).reversed());
+        return List.copyOf(stats);
+    }
+
+    /**
+     * Writes the current {@link #snapshot()} as CSV, starting with {@link HandlerStats#CSV_HEADER}.
+     *
+     * @param out the target to write to, must not be {@code null}
+     * @throws IOException if writing fails
+     * @author LeyCM
+     * @since 1.1.2
+     */
+    public void export(@NotNull Appendable out) throws IOException {
+        out.append(HandlerStats.CSV_HEADER).append('\n');
+        for (HandlerStats stats : snapshot()) out.append(stats.toCsv()).append('\n');
+    }
+
+    /**
+     * Sets all counters back to zero. Calls running concurrently may be counted either way.
+     *
+     * @author LeyCM
+     * @since 1.1.2
+     */
+    public void reset() {
+        handlers.values().forEach(sites -> sites.values().forEach(MeasuredHandler::reset));
+    }
+
+    /**
+     * Drops the statistics of unregistered handlers.
+     *
+     * @param removed the handlers removed from the bus
+     */
+    void forget(@NotNull Collection<? extends Consumer<Event>> removed) {
+        for (Consumer<Event> handler : removed) handlers.remove(handler);
+    }
+
+    /**
+     * Returns the measuring decorator of a handler, shared by every resolution of the same
+     * handler, level and concrete event type.
+     *
+     * @param eventType the concrete event class the handler is resolved for
+     * @param level the level of the handler
+     * @param handler the registered handler
+     * @return the measured handler
+     */
+    @NotNull Consumer<Event> measure(@NotNull Class<?> eventType, @NotNull HandlerPriority level,
+                                     @NotNull Consumer<Event> handler) {
+        return handlers.computeIfAbsent(handler, unused -> new ConcurrentHashMap<>())
+                .computeIfAbsent(new Site(eventType, level), site -> new MeasuredHandler(eventType, level, handler, sampleRate));
+    }
+
+    /**
+     * Identifies the level and concrete event type one handler is measured for.
+     */
+    private record Site(Class<?> eventType, HandlerPriority level) { }
+
+}
@@ -0,0 +1,320 @@
+/**
+ * RPL-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the RPL-LICENSE. <br>
+ * License at: <a href="https://github.com/rubrionmc/.github/blob/main/licensens/RUBRION_PUBLIC">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <leycm@proton.me> <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package net.rubrion.common.api.event.registry;
+
+import net.rubrion.common.api.event.Event;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Multi-producer, single-consumer pipeline that fires events on one dedicated thread.
+ * <p>
+ * Events are published into a preallocated ring buffer. Producers claim a slot with a single
+ * atomic increment and mark it published with a release store, so publishing never locks and
+ * never allocates. The consumer thread drains all published slots at once and fires them
+ * through the {@link EventBus}: consecutive events of the same class are passed to
+ * {@link EventExecutor#fireAll(List)} as one batch. Within a batch, each handler runs over all
+ * events before the next handler runs, so every handler sees the events in publish order, but
+ * the handlers of one event interleave with those of the other events of its batch.
+ * Pooled events are returned to their pool after their batch, like {@link EventBus#fire(Event)} does.
+ * </p>
+ * <p>
+ * When the buffer is full, {@link #publish(Event)} waits for the consumer and
+ * {@link #offer(Event)} fails. Both producers and the idle consumer wait according to the
+ * configured {@link WaitStrategy}. A failing handler does not stop the consumer; its exception
+ * is passed to the uncaught exception handler of the consumer thread. The events of the failed
+ * batch are then fired again one by one with {@link EventBus#fire(Event)}, each failing on its
+ * own, so a failure never drops the other events of the batch. Handlers that already ran over
+ * the batch before the failure see its events a second time.
+ * </p>
+ *
+ * @author LeyCM
+ * @since 1.1.2
+ * @see EventBus#fireAll(java.util.Collection)
+ */
+public final class EventPipeline implements AutoCloseable {
+    private static final VarHandle NEXT;
+    private static final VarHandle CONSUMED;
+    private static final VarHandle PUBLISHED = MethodHandles.arrayElementVarHandle(long[].class);
+    private static final long PARK_NANOS = 1_000_000L;
+    private static final AtomicInteger PIPELINES = new AtomicInteger();
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            NEXT = lookup.findVarHandle(EventPipeline.class, "next", long.class);
+            CONSUMED = lookup.findVarHandle(EventPipeline.class, "consumed", long.class);
+        } catch (ReflectiveOperationException ex) {
+            throw new ExceptionInInitializerError(ex);
+        }
+    }
+
+    private final Event[] buffer;
+    private final long[] published;
+    private final int mask;
+    private final WaitStrategy wait;
+    private final Thread consumer;
+
+    private volatile long next;
+    private volatile long consumed;
+    private volatile boolean parked;
+    private volatile boolean closed;
+
+    /**
+     * Strategy used while a producer waits for space or the consumer waits for events.
+     *
+     * @author LeyCM
+     * @since 1.1.2
+     */
+    public enum WaitStrategy {
+        /**
+         * Busy spins with {@link Thread#onSpinWait()}. Lowest latency, occupies a core.
+         */
+        SPIN,
+
+        /**
+         * Calls {@link Thread#yield()} between checks.
+         */
+        YIELD,
+
+        /**
+         * Parks the waiting thread. The consumer is unparked by the next publish.
+         */
+        PARK
+    }
+
+    /**
+     * Creates a new pipeline and starts its daemon consumer thread.
+     *
+     * @param capacity the number of slots, rounded up to the next power of two, must be positive
+     * @param wait the strategy used while waiting, must not be {@code null}
+     * @throws IllegalArgumentException if {@code capacity} is not positive or larger than 2<sup>30</sup>
+     * @author LeyCM
+     * @since 1.1.2
+     */
+    public EventPipeline(int capacity, @NotNull WaitStrategy wait) {
+        if (capacity < 1 || capacity > 1 << 30)
+            throw new IllegalArgumentException("capacity must be between 1 and 2^30");
+
+        int size = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.buffer = new Event[size];
+        this.published = new long[size];
+        this.mask = size - 1;
+        this.wait = wait;
+        Arrays.fill(published, -1L);
+
+        this.consumer = new Thread(this::consume, "rub-pipeline-" + PIPELINES.incrementAndGet());
+        this.consumer.setDaemon(true);
+        this.consumer.start();
+    }
+
+    /**
+     * Publishes an event, waiting while the buffer is full.
+     *
+     * @param event the event to fire on the consumer thread, must not be {@code null}
+     * @return {@code true} if the event was published, {@code false} if the pipeline is closed
+     * @author LeyCM
+     * @since 1.1.2
+     */
+    public boolean publish(@NotNull Event event) {
+        if (closed) return false;
+
+        long sequence = (long) NEXT.getAndAdd(this, 1L);
+        for (int spins = 0; sequence - buffer.length >= (long) CONSUMED.getAcquire(this); spins++) {
+            if (!consumer.isAlive()) return false;
+            idle(spins);
+        }
+
+        write(sequence, event);
+        return true;
+    }
+
+    /**
+     * Publishes an event if the buffer has space, without waiting.
+     *
+     * @param event the event to fire on the consumer thread, must not be {@code null}
+     * @return {@code true} if the event was published, {@code false} if the buffer is full or the pipeline is closed
+     * @author LeyCM
+     * @since 1.1.2
+     */
+    public boolean offer(@NotNull Event event) {
+        if (closed) return false;
+
+        long sequence;
+        do {
+            sequence = next;
+            if (sequence - buffer.length >= (long) CONSUMED.getAcquire(this)) return false;
+        } while (!NEXT.compareAndSet(this, sequence, sequence + 1));
+
+        write(sequence, event);
+        return true;
+    }
+
+    /**
+     * Returns the number of slots of the ring buffer.
+     *
+     * @return the capacity, always a power of two
+     * @author LeyCM
+     * @since 1.1.2
+     */
+    public int capacity() {
+        return buffer.length;
+    }
+
+    /**
+     * Returns the number of events claimed by producers but not yet drained by the consumer.
+     *
+     * @return the current queue depth
+     * @author LeyCM
+     * @since 1.1.2
+     */
+    public int size() {
+        return (int) Math.min(buffer.length, Math.max(0L, next - consumed));
+    }
+
+    /**
+     * Returns the wait strategy of this pipeline.
+     *
+     * @return the strategy used while waiting
+     * @author LeyCM
+     * @since 1.1.2
+     */
+    public @NotNull WaitStrategy waitStrategy() {
+        return wait;
+    }
+
+    /**
+     * Stops accepting events and waits until the consumer has fired all events published so far.
+     * Events published concurrently with closing may be dropped.
+     *
+     * @author LeyCM
+     * @since 1.1.2
+     */
+    @Override
+    public void close() {
+        closed = true;
+        LockSupport.unpark(consumer);
+        if (Thread.currentThread() == consumer) return;
+
+        boolean interrupted = false;
+        while (consumer.isAlive()) {
+            try { consumer.join(); }
+            catch (InterruptedException ex) { interrupted = true; }
+        }
+        if (interrupted) Thread.currentThread().interrupt();
+    }
+
+    private void write(long sequence, @NotNull Event event) {
+        int index = (int) sequence & mask;
+        buffer[index] = event;
+        // volatile publish pairs with park(): a release store could be reordered after the read of
+        // parked, letting the producer miss a consumer that parks on the slot it just wrote
+        PUBLISHED.setVolatile(published, index, sequence);
+        if (parked) LockSupport.unpark(consumer);
+    }
+
+    private void consume() {
+        List<Event> drain = new ArrayList<>(Math.min(buffer.length, 1024));
+        long cursor = 0;
+
+        for (int spins = 0; ; ) {
+            long available = cursor;
+            while (available - cursor < buffer.length
+                    && (long) PUBLISHED.getAcquire(published, (int) available & mask) == available) available++;
+
+            if (available == cursor) {
+                if (closed && cursor == next) return;
+                if (wait == WaitStrategy.PARK) park(cursor);
+                else idle(spins++);
+                continue;
+            }
+
+            for (long sequence = cursor; sequence < available; sequence++) {
+                int index = (int) sequence & mask;
+                drain.add(buffer[index]);
+                buffer[index] = null;
+            }
+            CONSUMED.setRelease(this, available);
+            cursor = available;
+            spins = 0;
+
+            dispatch(drain);
+            drain.clear();
+        }
+    }
+
+    private void park(long cursor) {
+        parked = true;
+        if ((long) PUBLISHED.getVolatile(published, (int) cursor & mask) != cursor && !closed)
+            LockSupport.parkNanos(this, PARK_NANOS);
+        parked = false;
+    }
+
+    private void idle(int spins) {
+        switch (wait) {
+            case SPIN -> Thread.onSpinWait();
+            case YIELD -> Thread.yield();
+            case PARK -> {
+                if (spins < 100) Thread.onSpinWait();
+                else LockSupport.parkNanos(PARK_NANOS / 100);
+            }
+        }
+    }
+
+    /**
+     * Fires the drained events, passing every run of consecutive events of one class as a batch.
+     * If a batch fails, its events are fired again one by one.
+     *
+     * @param events the drained events in publish order
+     */
+    private static void dispatch(@NotNull List<Event> events) {
+        int start = 0;
+        for (int i = 1; i <= events.size(); i++) {
+            Class<?> type = events.get(start).getClass();
+            if (i < events.size() && events.get(i).getClass() == type) continue;
+
+            List<Event> batch = events.subList(start, i);
+            try {
+                EventBus.resolve(type).fireAll(batch);
+                EventBus.releaseAll(batch);
+            } catch (Throwable ex) {
+                report(ex);
+                if (batch.size() > 1) retry(batch);
+            }
+            start = i;
+        }
+    }
+
+    /**
+     * Fires the events of a failed batch one by one, reporting the failure of each event on its own.
+     *
+     * @param batch the events of the failed batch
+     */
+    private static void retry(@NotNull List<Event> batch) {
+        for (int i = 0, size = batch.size(); i < size; i++) {
+            try { EventBus.fire(batch.get(i)); }
+            catch (Throwable ex) { report(ex); }
+        }
+    }
+
+    private static void report(@NotNull Throwable ex) {
+        Thread thread = Thread.currentThread();
+        thread.getUncaughtExceptionHandler().uncaughtException(thread, ex);
+    }
+
+}
@@ -0,0 +1,158 @@
+/**
+ * RPL-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the RPL-LICENSE. <br>
+ * License at: <a href="https://github.com/rubrionmc/.github/blob/main/licensens/RUBRION_PUBLIC">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <leycm@proton.me> <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package net.rubrion.common.api.event.registry;
+
+import net.rubrion.common.api.event.Event;
+import net.rubrion.common.api.event.able.Poolable;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Pool of reusable instances of one {@link Poolable} event type.
+ * <p>
+ * Every thread first takes and returns instances from its own stack, so the common case
+ * touches no shared state. Instances released while the local stack is full go to a bounded
+ * shared queue, from which threads with an empty stack take them again; this covers events
+ * acquired on one thread and fired on another. New instances are only created if both are empty.
+ * </p>
+ * <p>
+ * Virtual threads, such as those of {@link EventBus#fireAsync(Event)}, are short-lived, so a
+ * local stack would be allocated per thread and its instances lost when the thread ends.
+ * They only use the shared queue.
+ * </p>
+ * <p>
+ * Pools are registered with {@link EventBus#pool(Class, Supplier)}, which returns every fired
+ * event of the type to its pool once {@link EventBus#fire(Event)} or
+ * {@link EventBus#fireAll(java.util.Collection)} completed.
+ * </p>
+ *
+ * @param <E> the pooled event type
+ * @author LeyCM
+ * @since 1.1.2
+ * @see Poolable
+ */
+public final class EventPool<E extends Event & Poolable> {
+    private final Supplier<E> factory;
+    private final int capacity;
+    private final ThreadLocal<Stack> local;
+    private final ArrayBlockingQueue<E> shared;
+    private final LongAdder created = new LongAdder();
+
+    /**
+     * Creates a new pool.
+     *
+     * @param factory creates new instances when the pool is empty, must not be {@code null}
+     * @param capacity the number of idle instances kept per thread and in the shared queue, must be positive
+     * @throws IllegalArgumentException if {@code capacity} is not positive
+     * @author LeyCM
+     * @since 1.1.2
+     */
+    public EventPool(@NotNull Supplier<E> factory, int capacity) {
+        if (capacity < 1) throw new IllegalArgumentException("capacity must be positive");
+        this.factory = factory;
+        this.capacity = capacity;
+        this.local = ThreadLocal.withInitial(() -> new Stack(capacity));
+        this.shared = new ArrayBlockingQueue<>(capacity);
+    }
+
+    /**
+     * Takes an idle instance from the pool or creates a new one.
+     *
+     * @return a reset event ready to be filled and fired
+     * @author LeyCM
+     * @since 1.1.2
+     */
+    @SuppressWarnings("unchecked")
+    public @NotNull E acquire() {
+        if (Thread.currentThread().isVirtual()) return acquireShared();
+
+        Stack stack = local.get();
+        if (stack.size > 0) {
+            Object event = stack.slots[--stack.size];
+            stack.slots[stack.size] = null;
+            return (E) event;
+        }
+
+        return acquireShared();
+    }
+
+    /**
+     * Resets an instance and returns it to the pool. Retained instances are dropped instead.
+     * The instance must not be used by the caller afterwards.
+     *
+     * @param event the instance to recycle, must not be {@code null}
+     * @author LeyCM
+     * @since 1.1.2
+     */
+    public void release(@NotNull E event) {
+        if (event.isRetained()) return;
+        event.reset();
+        if (Thread.currentThread().isVirtual()) {
+            shared.offer(event);
+            return;
+        }
+
+        Stack stack = local.get();
+        if (stack.size < capacity) stack.slots[stack.size++] = event;
+        else shared.offer(event);
+    }
+
+    /**
+     * Returns the number of instances created by this pool because no idle instance was available.
+     *
+     * @return the number of allocations since creation
+     * @author LeyCM
+     * @since 1.1.2
+     */
+    public long created() {
+        return created.sum();
+    }
+
+    /**
+     * Returns the number of idle instances kept per thread and in the shared queue.
+     *
+     * @return the capacity of this pool
+     * @author LeyCM
+     * @since 1.1.2
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Takes an instance from the shared queue or creates a new one.
+     *
+     * @return an idle or new instance
+     */
+    private @NotNull E acquireShared() {
+        E event = shared.poll();
+        if (event != null) return event;
+
+        created.increment();
+        return factory.get();
+    }
+
+    /**
+     * Idle instances of one thread.
+     */
+    private static final class Stack {
+        private final Object[] slots;
+        private int size;
+
+        private Stack(int capacity) {
+            this.slots = new Object[capacity];
+        }
+    }
+
+}
@@ -0,0 +1,298 @@
+/**
+ * RPL-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the RPL-LICENSE. <br>
+ * License at: <a href="https://github.com/rubrionmc/.github/blob/main/licensens/RUBRION_PUBLIC">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <leycm@proton.me> <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package net.rubrion.common.api.event.registry;
+
+import net.rubrion.common.api.event.Event;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * Registry of the {@link EventExecutor}s backing the {@link EventBus}.
+ * <p>
+ * Handlers are registered on the executor of the type they declare. Firing resolves the
+ * concrete event class to a merged executor containing the handlers of the class itself,
+ * all of its superclasses and all of its interfaces. The resolution is cached per class in a
+ * {@link ClassValue} together with the registry generation it was computed for; every change
+ * bumps the generation, so a stale resolution is rechecked on its next fire while the hot
+ * path stays a {@link ClassValue} lookup and a generation check.
+ * </p>
+ * <p>
+ * A rechecked resolution compares the {@linkplain EventExecutor#version() versions} of the
+ * executors of its type hierarchy and the installed decorators with the ones it was built from,
+ * and keeps its executor, including a compiled dispatcher, if none of them changed. Registering
+ * handlers for one type therefore only rebuilds the resolutions of the types it applies to.
+ * </p>
+ * <p>
+ * Installed {@link EventMetrics} and {@link HandlerWatchdog}s are applied while resolving, so
+ * they only ever decorate the merged chains and never the executors handlers are registered on.
+ * Unregistered handlers are {@linkplain #removed(Collection) forgotten} by them under a lock excluding resolution, so
+ * no resolution running concurrently can decorate a removed handler again.
+ * </p>
+ *
+ * @author LeyCM
+ * @since 1.1.2
+ * @see EventBus
+ */
+final class ExecutorRegistry {
+    private final Map<Class<?>, EventExecutor> executors = new ConcurrentHashMap<>();
+    private final ClassValue<Resolution> resolutions = new ClassValue<>() {
+        @Override
+        protected Resolution computeValue(Class<?> type) {
+            return new Resolution(type);
+        }
+    };
+    private final ReadWriteLock decorating = new ReentrantReadWriteLock();
+    private volatile int generation;
+    private volatile MonitorExecutor monitors;
+    private volatile ForkJoinPool parallelPool = ForkJoinPool.commonPool();
+    private volatile EventMetrics metrics;
+    private volatile HandlerWatchdog watchdog;
+
+    /**
+     * Returns the executor for the given declared type, creating it if needed.
+     *
+     * @param type the type handlers are declared for
+     * @return the executor for exactly that type
+     */
+    @NotNull EventExecutor executor(@NotNull Class<?> type) {
+        return executors.computeIfAbsent(type, unused -> new EventExecutor());
+    }
+
+    /**
+     * Returns the merged executor for a concrete event class.
+     *
+     * @param type the concrete class of the fired event
+     * @return an executor running every handler applicable to {@code type}
+     */
+    @NotNull EventExecutor resolve(@NotNull Class<?> type) {
+        Resolution resolution = resolutions.get(type);
+        return resolution.generation == generation ? resolution.executor : resolution.refresh();
+    }
+
+    /**
+     * Sets the executor for monitor handlers of all resolved executors.
+     *
+     * @param monitors the background executor, or {@code null} to run monitor handlers inline
+     */
+    void monitors(@Nullable MonitorExecutor monitors) {
+        this.monitors = monitors;
+        invalidate();
+    }
+
+    /**
+     * Sets the pool parallel handlers of all resolved executors are forked onto.
+     *
+     * @param parallelPool the pool for {@link net.rubrion.common.api.event.handler.Handler#parallel()} handlers
+     */
+    void parallelPool(@NotNull ForkJoinPool parallelPool) {
+        this.parallelPool = parallelPool;
+        invalidate();
+    }
+
+    /**
+     * Sets the metrics measuring the handlers of all resolved executors.
+     *
+     * @param metrics the metrics to record into, or {@code null} to stop measuring
+     */
+    void metrics(@Nullable EventMetrics metrics) {
+        this.metrics = metrics;
+        invalidate();
+    }
+
+    /**
+     * Returns the installed metrics.
+     *
+     * @return the metrics recording handler calls, or {@code null} if none are installed
+     */
+    @Nullable EventMetrics metrics() {
+        return metrics;
+    }
+
+    /**
+     * Sets the watchdog guarding the handlers of all resolved executors.
+     *
+     * @param watchdog the watchdog to guard with, or {@code null} to stop guarding
+     */
+    void watchdog(@Nullable HandlerWatchdog watchdog) {
+        this.watchdog = watchdog;
+        invalidate();
+    }
+
+    /**
+     * Returns the installed watchdog.
+     *
+     * @return the watchdog guarding handler calls, or {@code null} if none is installed
+     */
+    @Nullable HandlerWatchdog watchdog() {
+        return watchdog;
+    }
+
+    /**
+     * Invalidates all cached resolutions. Must be called after every registration change.
+     */
+    synchronized void invalidate() {
+        generation++;
+    }
+
+    /**
+     * Invalidates all cached resolutions after handlers were unregistered and drops the state
+     * the installed decorators keep for them.
+     *
+     * @param handlers the unregistered handlers
+     */
+    void removed(@NotNull Collection<? extends Consumer<Event>> handlers) {
+        invalidate();
+        EventMetrics measured = metrics;
+        HandlerWatchdog guarding = watchdog;
+        if (measured == null && guarding == null || handlers.isEmpty()) return;
+
+        // resolutions decorate under the read lock, so none that read the old snapshots is still running
+        decorating.writeLock().lock();
+        try {
+            if (measured != null) measured.forget(handlers);
+            if (guarding != null) guarding.forget(handlers);
+        } finally {
+            decorating.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Applies an action to every executor for a declared type.
+     *
+     * @param action the action to apply
+     */
+    void forEach(@NotNull Consumer<EventExecutor> action) {
+        executors.values().forEach(action);
+    }
+
+    /**
+     * Cached resolution of one concrete event class.
+     */
+    private final class Resolution {
+        private final List<Class<?>> hierarchy;
+        private volatile EventExecutor executor;
+        private volatile int generation = -1;
+        private int[] versions;
+        private Settings settings;
+
+        private Resolution(@NotNull Class<?> type) {
+            this.hierarchy = hierarchy(type);
+        }
+
+        private synchronized @NotNull EventExecutor refresh() {
+            int current = ExecutorRegistry.this.generation;
+            if (current == generation) return executor;
+
+            // versions are read before the snapshots, so they never claim a change the snapshots miss
+            Settings now = new Settings(metrics, watchdog, FlightRecording.recordsHandlers(), monitors, parallelPool);
+            int[] read = new int[hierarchy.size()];
+            EventExecutor[] declared = new EventExecutor[hierarchy.size()];
+            for (int i = 0; i < read.length; i++) {
+                declared[i] = executors.get(hierarchy.get(i));
+                read[i] = declared[i] == null ? -1 : declared[i].version();
+            }
+
+            if (executor != null && now.equals(settings) && Arrays.equals(read, versions)) {
+                generation = current;
+                return executor;
+            }
+
+            HandlerSnapshot merged;
+            decorating.readLock().lock();
+            try {
+                List<HandlerSnapshot> parts = new ArrayList<>();
+                for (EventExecutor part : declared)
+                    if (part != null && !part.isEmpty()) parts.add(part.snapshot());
+
+                merged = decorate(hierarchy.get(0), HandlerSnapshot.merge(parts), now);
+            } finally {
+                decorating.readLock().unlock();
+            }
+
+            EventExecutor exact = declared[0];
+            EventExecutor resolved = new EventExecutor(merged, exact != null && exact.isCompiled(), now.monitors(), now.parallelPool());
+
+            // publish the executor before the generation, readers check the generation first
+            executor = resolved;
+            versions = read;
+            settings = now;
+            generation = current;
+            return resolved;
+        }
+    }
+
+    /**
+     * The registry wide settings a resolution was built with, compared by identity.
+     *
+     * @param metrics the installed metrics, or {@code null}
+     * @param watchdog the installed watchdog, or {@code null}
+     * @param recorded whether handler calls were recorded
+     * @param monitors the executor for monitor handlers, or {@code null}
+     * @param parallelPool the pool parallel handlers are forked onto
+     */
+    private record Settings(EventMetrics metrics, HandlerWatchdog watchdog, boolean recorded,
+                            MonitorExecutor monitors, ForkJoinPool parallelPool) { }
+
+    /**
+     * Wraps every handler in the decorators of the installed metrics and watchdog and, while
+     * handler calls are recorded, in a {@link RecordedHandler} outside of them. Metrics and
+     * watchdog keep their state per registered handler, so their decorators are shared by
+     * every resolution no matter whether a recording is running.
+     *
+     * @param eventType the concrete event class the snapshot is resolved for
+     * @param snapshot the merged snapshot
+     * @param settings the installed decorators
+     * @return the decorated snapshot, or {@code snapshot} if nothing decorates it
+     */
+    private static @NotNull HandlerSnapshot decorate(@NotNull Class<?> eventType, @NotNull HandlerSnapshot snapshot,
+                                                     @NotNull Settings settings) {
+        EventMetrics measured = settings.metrics();
+        HandlerWatchdog guarding = settings.watchdog();
+        boolean recorded = settings.recorded();
+        if (measured == null && guarding == null && !recorded) return snapshot;
+
+        return snapshot.map((level, handler) -> {
+            Consumer<Event> decorated = measured != null ? measured.measure(eventType, level, handler) : handler;
+            if (guarding != null) decorated = guarding.guard(handler, decorated);
+            return recorded ? new RecordedHandler(eventType, level, handler, decorated) : decorated;
+        });
+    }
+
+    /**
+     * Lists a class, its superclasses and all of its interfaces, most specific first.
+     *
+     * @param type the class to walk
+     * @return the type hierarchy without duplicates
+     */
+    private static @NotNull List<Class<?>> hierarchy(@NotNull Class<?> type) {
+        Set<Class<?>> types = new LinkedHashSet<>();
+        Deque<Class<?>> interfaces = new ArrayDeque<>();
+
+        for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+            types.add(c);
+            interfaces.addAll(Arrays.asList(c.getInterfaces()));
+        }
+        while (!interfaces.isEmpty()) {
+            Class<?> i = interfaces.poll();
+            if (types.add(i)) interfaces.addAll(Arrays.asList(i.getInterfaces()));
+        }
+
+        return List.copyOf(types);
+    }
+
+}
@@ -0,0 +1,40 @@
+/**
+ * RPL-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the RPL-LICENSE. <br>
+ * License at: <a href="https://github.com/rubrionmc/.github/blob/main/licensens/RUBRION_PUBLIC">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <leycm@proton.me> <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package net.rubrion.common.api.event.registry;
+
+import jdk.jfr.*;
+
+/**
+ * Flight recorder event for one {@link EventBus#fire(net.rubrion.common.api.event.Event)}.
+ * Enabled by default with a threshold of one millisecond, so only slow fires are recorded.
+ *
+ * @author LeyCM
+ * @since 1.1.2
+ * @see FlightRecording
+ */
+@Name("net.rubrion.event.Fire")
+@Label("Event Fire")
+@Description("Dispatch of one event to all of its handlers")
+@Category({"Rubrion", "Events"})
+@Threshold("1 ms")
+@StackTrace(false)
+final class FireRecord extends jdk.jfr.Event {
+
+    @Label("Event Class")
+    Class<?> eventType;
+
+    @Label("Handlers")
+    int handlers;
+
+    @Label("Canceled")
+    boolean canceled;
+
+}
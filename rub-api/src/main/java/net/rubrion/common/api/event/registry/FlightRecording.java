@@ -0,0 +1,111 @@
+/**
+ * RPL-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the RPL-LICENSE. <br>
+ * License at: <a href="https://github.com/rubrionmc/.github/blob/main/licensens/RUBRION_PUBLIC">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <leycm@proton.me> <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package net.rubrion.common.api.event.registry;
+
+import jdk.jfr.EventType;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.FlightRecorderListener;
+import jdk.jfr.Recording;
+import net.rubrion.common.api.event.Event;
+import net.rubrion.common.api.event.able.Cancelable;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Java Flight Recorder integration of the {@link EventBus}.
+ * <p>
+ * Every {@link EventBus#fire(Event)} checks whether {@link FireRecord} is enabled in any running
+ * recording, which is a single field read; only then the fire is timed and committed if it
+ * exceeds the configured threshold. {@link HandlerRecord}s are produced by decorators that
+ * are only added to the resolved handler chains while the event type is enabled. Handler chains
+ * are resolved again whenever a recording starts or stops, so stopping all recordings removes
+ * the decorators. Enabling the handler event in an already running recording takes effect on
+ * the next registration change.
+ * </p>
+ * <p>
+ * If the flight recorder is not available, nothing is recorded.
+ * </p>
+ *
+ * @author LeyCM
+ * @since 1.1.2
+ * @see FireRecord
+ * @see HandlerRecord
+ */
+final class FlightRecording {
+    private static final EventType FIRE = type(FireRecord.class);
+    private static final EventType HANDLER = type(HandlerRecord.class);
+
+    private FlightRecording() { }
+
+    /**
+     * Checks if fires are recorded.
+     *
+     * @return {@code true} if a running recording enabled {@link FireRecord}
+     */
+    static boolean recordsFires() {
+        return FIRE != null && FIRE.isEnabled();
+    }
+
+    /**
+     * Checks if handler calls are recorded.
+     *
+     * @return {@code true} if a running recording enabled {@link HandlerRecord}
+     */
+    static boolean recordsHandlers() {
+        return HANDLER != null && HANDLER.isEnabled();
+    }
+
+    /**
+     * Fires an event on the given executor and records the fire.
+     *
+     * @param executor the resolved executor of the event class
+     * @param event the event to fire
+     */
+    static void fire(@NotNull EventExecutor executor, @NotNull Event event) {
+        FireRecord record = new FireRecord();
+        record.begin();
+        try {
+            executor.fire(event);
+        } finally {
+            record.end();
+            if (record.shouldCommit()) {
+                record.eventType = event.getClass();
+                record.handlers = executor.snapshot().handlers().length;
+                record.canceled = event instanceof Cancelable cancelable && cancelable.isCanceled();
+                record.commit();
+            }
+        }
+    }
+
+    /**
+     * Calls the given action whenever a recording changes its state.
+     *
+     * @param action the action to run, typically invalidating the resolved handler chains
+     */
+    static void onRecordingChange(@NotNull Runnable action) {
+        if (FIRE == null) return;
+        FlightRecorder.addListener(new FlightRecorderListener() {
+            @Override
+            public void recordingStateChanged(Recording recording) {
+                action.run();
+            }
+        });
+    }
+
+    private static @Nullable EventType type(@NotNull Class<? extends jdk.jfr.Event> type) {
+        try {
+            return FlightRecorder.isAvailable() ? EventType.getEventType(type) : null;
+        } catch (RuntimeException | LinkageError ex) {
+            return null;
+        }
+    }
+
+}
@@ -0,0 +1,175 @@
+/**
+ * RPL-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the RPL-LICENSE. <br>
+ * License at: <a href="https://github.com/rubrionmc/.github/blob/main/licensens/RUBRION_PUBLIC">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <leycm@proton.me> <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package net.rubrion.common.api.event.registry;
+
+import net.rubrion.common.api.event.Event;
+import net.rubrion.common.api.event.able.Monitorable;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Decorator timing every call of one handler and tripping it after too many strikes in a row.
+ * <p>
+ * While the handler is not tripped, a call costs two {@link System#nanoTime()} reads and a
+ * volatile read. Strikes are only reset if there were any, so handlers in good standing do
+ * not write shared state. The strikes live in the {@link Standing} of the registered handler,
+ * shared by its guards of every resolution.
+ * </p>
+ * <p>
+ * Only {@link Monitorable} events are quarantined, as a copy. Other events are skipped while
+ * the handler is tripped: the firing thread keeps passing them to the remaining handlers and
+ * may recycle them into their pool, so they must not reach another thread.
+ * </p>
+ *
+ * @author LeyCM
+ * @since 1.1.2
+ * @see HandlerWatchdog
+ */
+final class GuardedHandler implements BatchHandler {
+    private final Standing standing;
+    private final Consumer<Event> handler;
+
+    GuardedHandler(@NotNull Standing standing, @NotNull Consumer<Event> handler) {
+        this.standing = standing;
+        this.handler = handler;
+    }
+
+    @Override
+    public void accept(Event event) {
+        if (!standing.admit()) {
+            if (quarantines() && event instanceof Monitorable<?> monitorable) quarantine(List.of(monitorable.copy()));
+            return;
+        }
+
+        long start = System.nanoTime();
+        try { handler.accept(event); }
+        catch (Throwable ex) {
+            standing.fail(ex);
+            return;
+        }
+        standing.record(System.nanoTime() - start);
+    }
+
+    @Override
+    public void acceptAll(@NotNull List<Event> events) {
+        if (!(handler instanceof BatchHandler batch)) {
+            for (int i = 0, size = events.size(); i < size; i++) accept(events.get(i));
+            return;
+        }
+
+        if (!standing.admit()) {
+            if (quarantines()) {
+                List<Event> copies = new ArrayList<>(events.size());
+                for (Event event : events) if (event instanceof Monitorable<?> monitorable) copies.add(monitorable.copy());
+                if (!copies.isEmpty()) quarantine(Collections.unmodifiableList(copies));
+            }
+            return;
+        }
+
+        long start = System.nanoTime();
+        try { batch.acceptAll(events); }
+        catch (Throwable ex) {
+            standing.fail(ex);
+            return;
+        }
+        standing.record(System.nanoTime() - start);
+    }
+
+    private boolean quarantines() {
+        return standing.watchdog.action() == HandlerWatchdog.Action.QUARANTINE;
+    }
+
+    /**
+     * Runs the handler on the quarantine executor. Failures are reported but not counted,
+     * the handler is already tripped.
+     *
+     * @param events the copies to pass, detached from the firing thread
+     */
+    private void quarantine(@NotNull List<Event> events) {
+        try {
+            standing.watchdog.quarantineExecutor().execute(() -> {
+                try { EventExecutor.fireBatch(handler, events); }
+                catch (Throwable ex) { report(ex); }
+            });
+        } catch (RejectedExecutionException ex) {
+            report(ex);
+        }
+    }
+
+    private static void report(@NotNull Throwable ex) {
+        Thread thread = Thread.currentThread();
+        thread.getUncaughtExceptionHandler().uncaughtException(thread, ex);
+    }
+
+    /**
+     * Strikes and cooldown of one registered handler.
+     */
+    static final class Standing {
+        private final HandlerWatchdog watchdog;
+        private final AtomicInteger strikes = new AtomicInteger();
+        private volatile long trippedUntil;
+        private volatile boolean tripped;
+
+        Standing(@NotNull HandlerWatchdog watchdog) {
+            this.watchdog = watchdog;
+        }
+
+        /**
+         * Checks if the handler is tripped.
+         *
+         * @return {@code true} if the handler is in its cooldown
+         */
+        boolean isTripped() {
+            return tripped && System.nanoTime() - trippedUntil < 0;
+        }
+
+        /**
+         * Decides whether the handler runs inline, ending the cooldown once it is over.
+         *
+         * @return {@code true} to call the handler, {@code false} if it is tripped
+         */
+        private boolean admit() {
+            if (!tripped) return true;
+            if (System.nanoTime() - trippedUntil < 0) return false;
+
+            // disabled handlers come back clean, others are half open and trip on the next strike
+            strikes.set(watchdog.action() == HandlerWatchdog.Action.DISABLE ? 0 : watchdog.strikes() - 1);
+            tripped = false;
+            return true;
+        }
+
+        private void record(long elapsed) {
+            if (elapsed > watchdog.latencyNanos()) strike();
+            else if (strikes.get() != 0) strikes.set(0);
+        }
+
+        private void fail(@NotNull Throwable ex) {
+            watchdog.fail();
+            strike();
+            report(ex);
+        }
+
+        private void strike() {
+            if (strikes.incrementAndGet() < watchdog.strikes() || tripped) return;
+
+            trippedUntil = System.nanoTime() + watchdog.cooldownNanos();
+            tripped = true;
+            watchdog.trip();
+        }
+    }
+
+}
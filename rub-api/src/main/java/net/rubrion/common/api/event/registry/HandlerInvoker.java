@@ -0,0 +1,289 @@
+/**
+ * RPL-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the RPL-LICENSE. <br>
+ * License at: <a href="https://github.com/rubrionmc/.github/blob/main/licensens/RUBRION_PUBLIC">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <leycm@proton.me> <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package net.rubrion.common.api.event.registry;
+
+import net.rubrion.common.api.event.Event;
+import net.rubrion.common.api.event.exception.EventRegistrationException;
+import net.rubrion.common.api.event.exception.ProcessHandlerException;
+import net.rubrion.common.api.event.handler.Handler;
+import net.rubrion.common.api.event.handler.HandlerList;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.*;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Directly invokable wrapper around a single {@link Handler} method.
+ * <p>
+ * The handler method is compiled once at registration time into a {@link Consumer}
+ * spun by {@link LambdaMetafactory}, so firing an event is a plain interface call the JIT
+ * can inline instead of a {@link Method#invoke(Object, Object...)} with its access checks
+ * and varargs array. If the lambda cannot be spun for the declaring class, a bound
+ * {@link MethodHandle} is used instead.
+ * </p>
+ * <p>
+ * Every {@link Throwable} thrown by the handler is wrapped in a {@link ProcessHandlerException},
+ * just like the reflective invocation did. Its {@linkplain Throwable#getCause() cause} is the
+ * throwable of the handler itself, no longer an {@link java.lang.reflect.InvocationTargetException}
+ * around it.
+ * </p>
+ *
+ * @author LeyCM
+ * @since 1.1.2
+ * @see EventBus#register(HandlerList)
+ */
+public final class HandlerInvoker implements Consumer<Event> {
+    private static final System.Logger LOGGER = System.getLogger(HandlerInvoker.class.getName());
+    private static final MethodType ACCEPT = MethodType.methodType(void.class, Object.class);
+
+    private final Class<?> owner;
+    private final String name;
+    private final Method method;
+    private final Consumer<Event> target;
+
+    private HandlerInvoker(@NotNull Class<?> owner, @NotNull String name, @Nullable Method method,
+                           @NotNull Consumer<Event> target) {
+        this.owner = owner;
+        this.name = name;
+        this.method = method;
+        this.target = target;
+    }
+
+    /**
+     * Compiles the given handler method bound to the given listener instance.
+     *
+     * @param method the handler method, must take exactly one {@link Event} parameter
+     * @param ob the listener instance declaring the method, ignored for static methods
+     * @return a new invoker calling {@code method} on {@code ob}
+     * @throws EventRegistrationException if the method cannot be made invokable
+     * @author LeyCM
+     * @since 1.1.2
+     */
+    @Contract("_, _ -> new")
+    public static @NotNull HandlerInvoker of(@NotNull Method method, HandlerList ob) {
+        return new HandlerInvoker(method.getDeclaringClass(), method.getName(), method, compile(method, ob));
+    }
+
+    /**
+     * Wraps a handler generated by a {@link net.rubrion.common.api.event.handler.HandlerRegistrar},
+     * which calls its handler method directly.
+     *
+     * @param owner the class declaring the handler method
+     * @param name the name of the handler method
+     * @param target the generated handler
+     * @return a new invoker calling {@code target}
+     * @author LeyCM
+     * @since 1.1.2
+     */
+    @Contract("_, _, _ -> new")
+    public static @NotNull HandlerInvoker of(@NotNull Class<?> owner, @NotNull String name, @NotNull Consumer<Event> target) {
+        return new HandlerInvoker(owner, name, null, target);
+    }
+
+    /**
+     * Wraps a handler compiled by a {@link #factory(Method) factory} of the given method.
+     *
+     * @param method the handler method
+     * @param target the compiled handler bound to its listener instance
+     * @return a new invoker calling {@code target}
+     */
+    static @NotNull HandlerInvoker bound(@NotNull Method method, @NotNull Consumer<Event> target) {
+        return new HandlerInvoker(method.getDeclaringClass(), method.getName(), method, target);
+    }
+
+    /**
+     * Invokes the handler method with the given event.
+     *
+     * @param event the event to pass to the handler
+     * @throws ProcessHandlerException if the handler method throws
+     * @author LeyCM
+     * @since 1.1.2
+     */
+    @Override
+    public void accept(Event event) {
+        try { target.accept(event); }
+        catch (Throwable ex) { throw failure(ex, true); }
+    }
+
+    /**
+     * Returns the class declaring the handler method.
+     *
+     * @return the handler list class of the method
+     * @author LeyCM
+     * @since 1.1.2
+     */
+    public @NotNull Class<?> owner() {
+        return owner;
+    }
+
+    /**
+     * Returns the name of the handler method.
+     *
+     * @return the method name
+     * @author LeyCM
+     * @since 1.1.2
+     */
+    public @NotNull String name() {
+        return name;
+    }
+
+    /**
+     * Returns the handler method this invoker calls.
+     *
+     * @return the compiled handler method, or {@code null} for handlers of a generated registrar
+     * @author LeyCM
+     * @since 1.1.2
+     */
+    public @Nullable Method method() {
+        return method;
+    }
+
+    /**
+     * Returns the compiled handler without the exception wrapping of {@link #accept(Event)}.
+     * Callers must route thrown exceptions through {@link #failure(Throwable, boolean)}.
+     *
+     * @return the raw compiled handler
+     */
+    @NotNull Consumer<Event> target() {
+        return target;
+    }
+
+    /**
+     * Returns the class declaring a handler, for statistics and recordings.
+     *
+     * @param handler a registered handler
+     * @return the handler list class for handler methods, otherwise the class of the consumer
+     */
+    static @NotNull Class<?> ownerOf(@NotNull Consumer<Event> handler) {
+        if (handler instanceof HandlerInvoker invoker) return invoker.owner();
+        if (handler instanceof BatchInvoker invoker) return invoker.owner();
+        return handler.getClass();
+    }
+
+    /**
+     * Returns the method name of a handler, for statistics and recordings.
+     *
+     * @param handler a registered handler
+     * @return the handler method name, or {@code "accept"} for plain consumers
+     */
+    static @NotNull String nameOf(@NotNull Consumer<Event> handler) {
+        if (handler instanceof HandlerInvoker invoker) return invoker.name();
+        if (handler instanceof BatchInvoker invoker) return invoker.name();
+        return "accept";
+    }
+
+    /**
+     * Translates a throwable raised by a handler into the exception seen by the firing code.
+     *
+     * @param ex the throwable raised by the handler
+     * @param wrap whether the handler is a compiled {@link Handler} method whose failures
+     *             are wrapped in a {@link ProcessHandlerException}
+     * @return the {@link ProcessHandlerException} to throw, unwrapped throwables are rethrown directly
+     */
+    static RuntimeException failure(Throwable ex, boolean wrap) {
+        if (wrap) return new ProcessHandlerException("Fail to Process Handler", ex);
+        throw HandlerInvoker.<RuntimeException>sneaky(ex);
+    }
+
+    /**
+     * Compiles a single-parameter handler method into a consumer of its parameter type.
+     * The returned consumer is typed as {@code Consumer<Event>} but accepts whatever the
+     * method parameter accepts, callers must pass matching arguments.
+     *
+     * @param method the handler method
+     * @param ob the listener instance declaring the method, ignored for static methods
+     * @return the raw compiled handler
+     * @throws EventRegistrationException if the method cannot be made invokable
+     */
+    static @NotNull Consumer<Event> compile(@NotNull Method method, HandlerList ob) {
+        return factory(method).apply(ob);
+    }
+
+    /**
+     * Prepares a single-parameter handler method for binding to listener instances.
+     * <p>
+     * The lambda class is spun once here; binding the returned factory to another instance
+     * only allocates the capturing lambda. Static methods are bound once and the same
+     * consumer is returned for every instance.
+     * </p>
+     *
+     * @param method the handler method
+     * @return a factory creating the raw compiled handler for a listener instance
+     * @throws EventRegistrationException if the method cannot be made invokable
+     * @see #compile(Method, HandlerList)
+     */
+    @SuppressWarnings("unchecked")
+    static @NotNull Function<HandlerList, Consumer<Event>> factory(@NotNull Method method) {
+        boolean isStatic = Modifier.isStatic(method.getModifiers());
+
+        MethodHandle spun;
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(method.getDeclaringClass(), MethodHandles.lookup());
+            MethodHandle impl = lookup.unreflect(method);
+            MethodType invoked = isStatic
+                    ? MethodType.methodType(Consumer.class)
+                    : MethodType.methodType(Consumer.class, method.getDeclaringClass());
+
+            spun = LambdaMetafactory.metafactory(lookup, "accept", invoked,
+                    ACCEPT, impl, MethodType.methodType(void.class, method.getParameterTypes()[0])).getTarget();
+        } catch (IllegalAccessException | LambdaConversionException ex) {
+            // the declaring class does not grant full privilege access, fall back to a bound handle
+            LOGGER.log(System.Logger.Level.DEBUG, () -> "Cannot spin a lambda for handler method " + method.getName() +
+                    " in " + method.getDeclaringClass().getName() + ", using a method handle", ex);
+            spun = null;
+        }
+
+        if (spun != null) {
+            if (isStatic) {
+                try {
+                    Consumer<Event> shared = (Consumer<Event>) spun.invoke();
+                    return ob -> shared;
+                } catch (Throwable ex) {
+                    throw HandlerInvoker.<RuntimeException>sneaky(ex);
+                }
+            }
+
+            MethodHandle bind = spun.asType(MethodType.methodType(Consumer.class, HandlerList.class));
+            return ob -> {
+                try { return (Consumer<Event>) bind.invokeExact(ob); }
+                catch (Throwable ex) { throw HandlerInvoker.<RuntimeException>sneaky(ex); }
+            };
+        }
+
+        try {
+            MethodHandle handle = MethodHandles.lookup().unreflect(method);
+            return ob -> {
+                MethodHandle bound = (isStatic ? handle : handle.bindTo(ob)).asType(ACCEPT);
+                return e -> {
+                    try { bound.invokeExact((Object) e); }
+                    catch (Throwable ex) { throw HandlerInvoker.<RuntimeException>sneaky(ex); }
+                };
+            };
+        } catch (IllegalAccessException ex) {
+            throw new EventRegistrationException("Cannot access handler method " + method.getName() +
+                    " in " + method.getDeclaringClass().getSimpleName(), ex);
+        }
+    }
+
+    /**
+     * Rethrows the given throwable unchanged so {@link #accept(Event)} wraps it exactly once.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T extends Throwable> T sneaky(Throwable ex) throws T {
+        throw (T) ex;
+    }
+
+}
@@ -0,0 +1,101 @@
+/**
+ * RPL-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the RPL-LICENSE. <br>
+ * License at: <a href="https://github.com/rubrionmc/.github/blob/main/licensens/RUBRION_PUBLIC">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <leycm@proton.me> <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package net.rubrion.common.api.event.registry;
+
+import net.rubrion.common.api.event.Event;
+import net.rubrion.common.api.event.handler.Handler;
+import net.rubrion.common.api.event.handler.HandlerInfo;
+import net.rubrion.common.api.event.handler.HandlerList;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Prebuilt registration data of one {@link Handler} method.
+ * <p>
+ * A handler list class is scanned once: its methods are filtered, made accessible, turned into
+ * {@link HandlerInfo}s and compiled into invoker factories, and the result is cached per class in
+ * a {@link ClassValue}. Registering another instance of the same class only binds the cached
+ * factories to the new receiver. A class with an invalid handler method is not cached, so every
+ * registration attempt reports the same error.
+ * </p>
+ *
+ * @author LeyCM
+ * @since 1.1.2
+ * @see EventBus#register(HandlerList)
+ */
+final class HandlerMethod {
+    private static final ClassValue<List<HandlerMethod>> SCANS = new ClassValue<>() {
+        @Override
+        protected List<HandlerMethod> computeValue(Class<?> type) {
+            return scan(type);
+        }
+    };
+
+    private final Method method;
+    private final HandlerInfo info;
+    private final boolean batch;
+    private final Function<HandlerList, Consumer<Event>> factory;
+
+    private HandlerMethod(@NotNull Method method) {
+        this.method = method;
+        this.info = HandlerInfo.of(method);
+        this.batch = HandlerInfo.isBatch(method);
+        this.factory = HandlerInvoker.factory(method);
+    }
+
+    /**
+     * Returns the handler methods of a handler list class, scanning it on first use.
+     *
+     * @param type the handler list class
+     * @return the cached handler methods declared by {@code type}
+     * @throws net.rubrion.common.api.event.exception.EventRegistrationException if a handler method is invalid
+     */
+    static @NotNull List<HandlerMethod> of(@NotNull Class<?> type) {
+        return SCANS.get(type);
+    }
+
+    /**
+     * Returns the declared type and level of this handler.
+     *
+     * @return the handler info read from the annotation
+     */
+    @NotNull HandlerInfo info() {
+        return info;
+    }
+
+    /**
+     * Creates the invoker of this handler for a listener instance.
+     *
+     * @param ob the listener instance, ignored for static methods
+     * @return a new invoker bound to {@code ob}
+     */
+    @NotNull Consumer<Event> bind(HandlerList ob) {
+        Consumer<Event> target = factory.apply(ob);
+        return batch ? BatchInvoker.bound(method, target) : HandlerInvoker.bound(method, target);
+    }
+
+    private static @NotNull List<HandlerMethod> scan(@NotNull Class<?> type) {
+        List<HandlerMethod> methods = new ArrayList<>();
+        for (Method method : type.getDeclaredMethods()) {
+            if (!method.isAnnotationPresent(Handler.class)) continue;
+            if (method.getParameterCount() != 1) continue;
+            method.setAccessible(true);
+            methods.add(new HandlerMethod(method));
+        }
+        return List.copyOf(methods);
+    }
+
+}
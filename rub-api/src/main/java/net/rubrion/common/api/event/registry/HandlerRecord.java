@@ -0,0 +1,47 @@
+/**
+ * RPL-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the RPL-LICENSE. <br>
+ * License at: <a href="https://github.com/rubrionmc/.github/blob/main/licensens/RUBRION_PUBLIC">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <leycm@proton.me> <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package net.rubrion.common.api.event.registry;
+
+import jdk.jfr.*;
+
+/**
+ * Flight recorder event for one handler call.
+ * Disabled by default, as enabling it wraps every resolved handler in a recording decorator.
+ *
+ * @author LeyCM
+ * @since 1.1.2
+ * @see FlightRecording
+ */
+@Name("net.rubrion.event.Handler")
+@Label("Event Handler")
+@Description("Call of one event handler")
+@Category({"Rubrion", "Events"})
+@Enabled(false)
+@Threshold("0 ms")
+@StackTrace(false)
+final class HandlerRecord extends jdk.jfr.Event {
+
+    @Label("Event Class")
+    Class<?> eventType;
+
+    @Label("Handler List")
+    Class<?> owner;
+
+    @Label("Method")
+    String method;
+
+    @Label("Priority")
+    String level;
+
+    @Label("Batch Size")
+    int events;
+
+}
@@ -0,0 +1,451 @@
+/**
+ * RPL-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the RPL-LICENSE. <br>
+ * License at: <a href="https://github.com/rubrionmc/.github/blob/main/licensens/RUBRION_PUBLIC">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <leycm@proton.me> <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package net.rubrion.common.api.event.registry;
+
+import net.rubrion.common.api.event.Event;
+import net.rubrion.common.api.event.able.Keyed;
+import net.rubrion.common.api.event.handler.HandlerInfo;
+import net.rubrion.common.api.event.handler.HandlerPriority;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+
+/**
+ * Immutable, pre-flattened view of the handlers registered on an {@link EventExecutor}.
+ * <p>
+ * All handlers live in a single array ordered by {@link HandlerPriority}, with the start of
+ * every level stored in {@code offsets}. The arrays are never modified after construction;
+ * registration builds a new snapshot which the executor swaps in atomically, so firing
+ * threads can iterate the array without locks.
+ * </p>
+ * <p>
+ * Handlers registered with {@link HandlerInfo#skipsCanceled()} are left out of a second,
+ * equally flattened array used once the event is canceled, so skipping them costs one
+ * branch per level instead of one check per handler.
+ * </p>
+ * <p>
+ * Handlers registered with {@link HandlerInfo#forksParallel()} are flagged in a parallel
+ * array, together with a mask of the levels containing any of them, so snapshots without
+ * parallel handlers are fired exactly as before.
+ * </p>
+ * <p>
+ * Handlers registered for a routing key are kept in a separate snapshot per key. Firing a
+ * {@link Keyed} event uses the {@linkplain #route(Object) route} of its key, which merges the
+ * handlers without key and the handlers of that key level by level. Routes are built on first
+ * use and cached, so dispatch only touches the handlers relevant to the key.
+ * </p>
+ * <p>
+ * The snapshots of one executor share a concurrent map from key to snapshot, created by
+ * {@link #empty()}. Registering or removing a handler of a key swaps only the snapshot of that
+ * key in place, so it costs the handlers of the key, no matter how many other keys exist.
+ * Merged and mapped snapshots copy the keys they are built from and are never modified.
+ * </p>
+ *
+ * @author LeyCM
+ * @since 1.1.2
+ * @see EventExecutor
+ */
+final class HandlerSnapshot {
+    private static final HandlerPriority[] LEVELS = HandlerPriority.values();
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static final HandlerSnapshot EMPTY = new HandlerSnapshot(new Consumer[0], new boolean[0], new boolean[0], new int[LEVELS.length + 1]);
+
+    private final Consumer<Event>[] handlers;
+    private final boolean[] skips;
+    private final boolean[] parallel;
+    private final int[] offsets;
+    private final int parallelLevels;
+    private final Consumer<Event>[] canceled;
+    private final int[] canceledOffsets;
+    private final Map<Object, HandlerSnapshot> keyed;
+    private final Map<Object, Route> routes;
+
+    private HandlerSnapshot(@NotNull Consumer<Event>[] handlers, boolean @NotNull [] skips,
+                            boolean @NotNull [] parallel, int @NotNull [] offsets) {
+        this(handlers, skips, parallel, offsets, Map.of());
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private HandlerSnapshot(@NotNull Consumer<Event>[] handlers, boolean @NotNull [] skips, boolean @NotNull [] parallel,
+                            int @NotNull [] offsets, @NotNull Map<Object, HandlerSnapshot> keyed) {
+        this.handlers = handlers;
+        this.skips = skips;
+        this.parallel = parallel;
+        this.offsets = offsets;
+        this.keyed = keyed;
+        this.routes = keyed instanceof ConcurrentMap || !keyed.isEmpty() ? new ConcurrentHashMap<>() : Map.of();
+
+        int levels = 0;
+        for (int l = 0; l < LEVELS.length; l++)
+            for (int i = offsets[l]; i < offsets[l + 1]; i++) if (parallel[i]) levels |= 1 << l;
+        this.parallelLevels = levels;
+
+        int kept = 0;
+        for (boolean skip : skips) if (!skip) kept++;
+
+        if (kept == handlers.length) {
+            this.canceled = handlers;
+            this.canceledOffsets = offsets;
+            return;
+        }
+
+        this.canceled = new Consumer[kept];
+        this.canceledOffsets = new int[offsets.length];
+        int index = 0;
+        for (int l = 0; l < LEVELS.length; l++) {
+            canceledOffsets[l] = index;
+            for (int i = offsets[l]; i < offsets[l + 1]; i++) if (!skips[i]) canceled[index++] = handlers[i];
+        }
+        canceledOffsets[LEVELS.length] = index;
+    }
+
+    /**
+     * Creates an empty snapshot owning a new key map, for an executor handlers are registered on.
+     *
+     * @return a snapshot without handlers whose keyed handlers can be changed per key
+     */
+    @Contract("-> new")
+    static @NotNull HandlerSnapshot empty() {
+        return new HandlerSnapshot(EMPTY.handlers, EMPTY.skips, EMPTY.parallel, EMPTY.offsets, new ConcurrentHashMap<>());
+    }
+
+    /**
+     * Returns the flattened handler array. The array must not be modified.
+     *
+     * @return all handlers ordered by priority level
+     */
+    @NotNull Consumer<Event>[] handlers() {
+        return handlers;
+    }
+
+    /**
+     * Returns which handlers skip canceled events, parallel to {@link #handlers()}.
+     * The array must not be modified.
+     *
+     * @return the skip flags per handler
+     */
+    boolean @NotNull [] skips() {
+        return skips;
+    }
+
+    /**
+     * Returns which handlers run in parallel with the other parallel handlers of their level,
+     * parallel to {@link #handlers()}. The array must not be modified.
+     *
+     * @return the parallel flags per handler
+     */
+    boolean @NotNull [] parallel() {
+        return parallel;
+    }
+
+    /**
+     * Returns the levels containing parallel handlers.
+     *
+     * @return a bit mask with bit {@link HandlerPriority#ordinal()} set for every level with parallel handlers
+     */
+    int parallelLevels() {
+        return parallelLevels;
+    }
+
+    /**
+     * Returns the start index of every level in {@link #handlers()}, followed by the handler count.
+     * The array must not be modified.
+     *
+     * @return the level offsets, indexed by {@link HandlerPriority#ordinal()}
+     */
+    int @NotNull [] offsets() {
+        return offsets;
+    }
+
+    /**
+     * Returns the handlers that still run for canceled events. The array must not be modified.
+     *
+     * @return all handlers not skipping canceled events, ordered by priority level
+     */
+    @NotNull Consumer<Event>[] canceled() {
+        return canceled;
+    }
+
+    /**
+     * Returns the start index of every level in {@link #canceled()}, followed by its length.
+     * The array must not be modified.
+     *
+     * @return the level offsets of the canceled array
+     */
+    int @NotNull [] canceledOffsets() {
+        return canceledOffsets;
+    }
+
+    /**
+     * Checks if any handler skips canceled events.
+     *
+     * @return {@code true} if the canceled array differs from the full array
+     */
+    boolean skipsCanceled() {
+        return canceled != handlers;
+    }
+
+    /**
+     * Returns the index of the first {@link HandlerPriority#MONITOR} handler.
+     *
+     * @return the start of the monitor level, equal to the handler count if there are no monitors
+     */
+    int monitor() {
+        return offsets[HandlerPriority.MONITOR.ordinal()];
+    }
+
+    /**
+     * Checks if this snapshot contains no handlers.
+     *
+     * @return {@code true} if no handler is registered, with or without key
+     */
+    boolean isEmpty() {
+        return handlers.length == 0 && keyed.isEmpty();
+    }
+
+    /**
+     * Checks if any handler is registered for a routing key.
+     *
+     * @return {@code true} if events must be routed by their key
+     */
+    boolean isKeyed() {
+        return !keyed.isEmpty();
+    }
+
+    /**
+     * Returns the snapshot to fire for an event with the given routing key.
+     *
+     * @param key the routing key of the event
+     * @return the handlers without key merged with the handlers of {@code key},
+     *         or this snapshot if no handler is registered for {@code key}
+     */
+    @NotNull HandlerSnapshot route(@NotNull Object key) {
+        HandlerSnapshot own = keyed.get(key);
+        if (own == null) return this;
+
+        Route route = routes.get(key);
+        if (route != null && route.own() == own) return route.merged();
+
+        HandlerSnapshot merged = merge(List.of(new HandlerSnapshot(handlers, skips, parallel, offsets), own));
+        routes.put(key, new Route(own, merged));
+        return merged;
+    }
+
+    /**
+     * Returns a snapshot with the given handler appended to its level.
+     *
+     * @param info the level, cancellation and parallel behaviour of the handler
+     * @param handler the handler to add
+     * @return a new snapshot, or this snapshot if the handler is already registered on that level
+     */
+    @Contract(pure = true)
+    @NotNull HandlerSnapshot with(@NotNull HandlerInfo info, @NotNull Consumer<Event> handler) {
+        int level = info.level().ordinal();
+        int start = offsets[level];
+        int end = offsets[level + 1];
+        for (int i = start; i < end; i++) if (handlers[i].equals(handler)) return this;
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        Consumer<Event>[] next = new Consumer[handlers.length + 1];
+        System.arraycopy(handlers, 0, next, 0, end);
+        next[end] = handler;
+        System.arraycopy(handlers, end, next, end + 1, handlers.length - end);
+
+        boolean[] nextSkips = new boolean[skips.length + 1];
+        System.arraycopy(skips, 0, nextSkips, 0, end);
+        nextSkips[end] = info.skipsCanceled();
+        System.arraycopy(skips, end, nextSkips, end + 1, skips.length - end);
+
+        boolean[] nextParallel = new boolean[parallel.length + 1];
+        System.arraycopy(parallel, 0, nextParallel, 0, end);
+        nextParallel[end] = info.forksParallel();
+        System.arraycopy(parallel, end, nextParallel, end + 1, parallel.length - end);
+
+        int[] nextOffsets = offsets.clone();
+        for (int l = level + 1; l < nextOffsets.length; l++) nextOffsets[l]++;
+
+        return new HandlerSnapshot(next, nextSkips, nextParallel, nextOffsets, keyed);
+    }
+
+    /**
+     * Returns a snapshot with the given handler appended to its level for one routing key.
+     * A handler with key is added to the shared key map of an {@linkplain #empty() executor
+     * snapshot} in place, swapping only the snapshot of its key.
+     *
+     * @param info the level, cancellation and parallel behaviour of the handler
+     * @param handler the handler to add
+     * @param key the routing key, or {@code null} to receive every event
+     * @return a new snapshot if the handler has no key, otherwise this snapshot
+     * @throws UnsupportedOperationException if {@code key} is not {@code null} and this is a merged snapshot
+     */
+    @NotNull HandlerSnapshot with(@NotNull HandlerInfo info, @NotNull Consumer<Event> handler, @Nullable Object key) {
+        if (key == null) return with(info, handler);
+
+        keyed.compute(key, (unused, own) -> (own == null ? EMPTY : own).with(info, handler));
+        return this;
+    }
+
+    /**
+     * Returns a snapshot without the given handler on any level. Handlers with key are
+     * removed with {@link #removeKeyed(Set)}.
+     *
+     * @param handler the handler to remove
+     * @return a new snapshot, or this snapshot if the handler is not registered without key
+     */
+    @Contract(pure = true)
+    @NotNull HandlerSnapshot without(@NotNull Consumer<Event> handler) {
+        return without(Set.of(handler));
+    }
+
+    /**
+     * Removes handlers registered for any routing key, in place. Every key is checked, so this
+     * costs O(keys) in addition to the handlers of the affected keys.
+     *
+     * @param removed the handlers to remove
+     * @return {@code true} if any handler was removed
+     */
+    boolean removeKeyed(@NotNull Set<Consumer<Event>> removed) {
+        boolean changed = false;
+        for (Object key : keyed.keySet()) changed |= removeKeyed(removed, key);
+        return changed;
+    }
+
+    /**
+     * Removes handlers registered for one routing key, in place, dropping the key once it is empty.
+     * Only the snapshot of {@code key} is rebuilt, the snapshots of other keys are left untouched.
+     *
+     * @param removed the handlers to remove
+     * @param key the routing key the handlers were registered for
+     * @return {@code true} if any handler was removed
+     */
+    boolean removeKeyed(@NotNull Set<Consumer<Event>> removed, @NotNull Object key) {
+        boolean[] changed = new boolean[1];
+        HandlerSnapshot own = keyed.computeIfPresent(key, (unused, current) -> {
+            HandlerSnapshot next = current.without(removed);
+            changed[0] = next != current;
+            return next.isEmpty() ? null : next;
+        });
+        if (own == null) routes.remove(key);
+        return changed[0];
+    }
+
+    /**
+     * Returns a snapshot without any of the given handlers registered without key, removing them in a single pass.
+     * The keyed handlers are shared with the new snapshot.
+     *
+     * @param removed the handlers to remove
+     * @return a new snapshot, or this snapshot if none of the handlers is registered without key
+     */
+    @Contract(pure = true)
+    @NotNull HandlerSnapshot without(@NotNull Set<Consumer<Event>> removed) {
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        Consumer<Event>[] next = new Consumer[handlers.length];
+        boolean[] nextSkips = new boolean[skips.length];
+        boolean[] nextParallel = new boolean[parallel.length];
+        int[] nextOffsets = new int[offsets.length];
+        int size = 0;
+
+        for (int l = 0; l < LEVELS.length; l++) {
+            nextOffsets[l] = size;
+            for (int i = offsets[l]; i < offsets[l + 1]; i++) {
+                if (removed.contains(handlers[i])) continue;
+                next[size] = handlers[i];
+                nextParallel[size] = parallel[i];
+                nextSkips[size++] = skips[i];
+            }
+        }
+        nextOffsets[LEVELS.length] = size;
+
+        if (size == handlers.length) return this;
+        return new HandlerSnapshot(Arrays.copyOf(next, size), Arrays.copyOf(nextSkips, size),
+                Arrays.copyOf(nextParallel, size), nextOffsets, keyed);
+    }
+
+    /**
+     * Returns a snapshot with every handler replaced by the result of the given function.
+     * Levels, cancellation and parallel flags and routing keys are kept.
+     *
+     * @param mapper maps a handler and its level to the handler to use instead
+     * @return a new snapshot with the mapped handlers
+     */
+    @Contract(pure = true)
+    @NotNull HandlerSnapshot map(@NotNull BiFunction<HandlerPriority, Consumer<Event>, Consumer<Event>> mapper) {
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        Consumer<Event>[] mapped = new Consumer[handlers.length];
+        for (int l = 0; l < LEVELS.length; l++)
+            for (int i = offsets[l]; i < offsets[l + 1]; i++) mapped[i] = mapper.apply(LEVELS[l], handlers[i]);
+
+        Map<Object, HandlerSnapshot> mappedKeyed = new HashMap<>();
+        keyed.forEach((key, own) -> mappedKeyed.put(key, own.map(mapper)));
+        return new HandlerSnapshot(mapped, skips, parallel, offsets, Map.copyOf(mappedKeyed));
+    }
+
+    /**
+     * Merges several snapshots into one, keeping the priority order.
+     * Within a level, the handlers of earlier snapshots run first. Handlers of the same routing
+     * key are merged the same way.
+     *
+     * @param parts the snapshots to merge
+     * @return a snapshot containing the handlers of all parts
+     */
+    @Contract(pure = true)
+    static @NotNull HandlerSnapshot merge(@NotNull List<HandlerSnapshot> parts) {
+        if (parts.isEmpty()) return EMPTY;
+        if (parts.size() == 1) return parts.get(0);
+
+        int size = 0;
+        for (HandlerSnapshot part : parts) size += part.handlers.length;
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        Consumer<Event>[] merged = new Consumer[size];
+        boolean[] skips = new boolean[size];
+        boolean[] parallel = new boolean[size];
+        int[] offsets = new int[LEVELS.length + 1];
+        int index = 0;
+
+        for (int l = 0; l < LEVELS.length; l++) {
+            offsets[l] = index;
+            for (HandlerSnapshot part : parts) {
+                int start = part.offsets[l];
+                int length = part.offsets[l + 1] - start;
+                System.arraycopy(part.handlers, start, merged, index, length);
+                System.arraycopy(part.skips, start, skips, index, length);
+                System.arraycopy(part.parallel, start, parallel, index, length);
+                index += length;
+            }
+        }
+        offsets[LEVELS.length] = index;
+
+        Map<Object, List<HandlerSnapshot>> keys = new HashMap<>();
+        for (HandlerSnapshot part : parts)
+            part.keyed.forEach((key, own) -> keys.computeIfAbsent(key, unused -> new ArrayList<>()).add(own));
+        Map<Object, HandlerSnapshot> keyed = new HashMap<>();
+        keys.forEach((key, owns) -> keyed.put(key, merge(owns)));
+
+        return new HandlerSnapshot(merged, skips, parallel, offsets, Map.copyOf(keyed));
+    }
+
+    /**
+     * A cached route, valid while the snapshot of its key is unchanged.
+     *
+     * @param own the handlers of the key the route was merged from
+     * @param merged the handlers without key merged with {@code own}
+     */
+    private record Route(HandlerSnapshot own, HandlerSnapshot merged) { }
+
+}
@@ -0,0 +1,150 @@
+/**
+ * RPL-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the RPL-LICENSE. <br>
+ * License at: <a href="https://github.com/rubrionmc/.github/blob/main/licensens/RUBRION_PUBLIC">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <leycm@proton.me> <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package net.rubrion.common.api.event.registry;
+
+import net.rubrion.common.api.event.handler.HandlerPriority;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Point-in-time statistics of one handler for one concrete event type.
+ * <p>
+ * Every call is counted, but only every sampled call is timed. {@link #sampledNanos()} and
+ * the {@link #histogram()} therefore cover {@link #sampled()} calls; {@link #estimatedNanos()}
+ * scales the measured time up to all invocations.
+ * </p>
+ *
+ * @param eventType the concrete class of the events the handler received
+ * @param owner the class declaring the handler, the {@link net.rubrion.common.api.event.handler.HandlerList}
+ *              for {@link net.rubrion.common.api.event.handler.Handler} methods
+ * @param method the name of the handler method, or {@code "accept"} for plain consumers
+ * @param level the priority level the handler is registered on
+ * @param invocations the number of calls
+ * @param sampled the number of timed calls
+ * @param sampledNanos the total time of all timed calls in nanoseconds
+ * @param histogram the number of timed calls per latency bucket, bucket {@code i} counting calls
+ *                  that took less than 2<sup>i+1</sup> nanoseconds; copied on construction and
+ *                  access, and compared by content
+ *
+ * @author LeyCM
+ * @since 1.1.2
+ * @see EventMetrics#snapshot()
+ */
+public record HandlerStats(Class<?> eventType, Class<?> owner, String method, HandlerPriority level,
+                           long invocations, long sampled, long sampledNanos, long[] histogram) {
+
+    /**
+     * Creates new statistics, copying the histogram.
+     *
+     * @author LeyCM
+     * @since 1.1.2
+     */
+    public HandlerStats {
+        histogram = histogram.clone();
+    }
+
+    /**
+     * Returns a copy of the latency histogram.
+     *
+     * @return the number of timed calls per latency bucket
+     * @author LeyCM
+     * @since 1.1.2
+     */
+    @Override
+    public long @NotNull [] histogram() {
+        return histogram.clone();
+    }
+
+    /**
+     * Returns the mean time of a timed call.
+     *
+     * @return the mean latency in nanoseconds, or {@code 0} if no call was timed
+     * @author LeyCM
+     * @since 1.1.2
+     */
+    public double meanNanos() {
+        return sampled == 0 ? 0 : (double) sampledNanos / sampled;
+    }
+
+    /**
+     * Estimates the total time spent in this handler from the sampled calls.
+     *
+     * @return the estimated total time in nanoseconds
+     * @author LeyCM
+     * @since 1.1.2
+     */
+    public long estimatedNanos() {
+        return (long) (meanNanos() * invocations);
+    }
+
+    /**
+     * Returns the upper bound of the histogram bucket containing the given percentile.
+     *
+     * @param percentile the percentile between {@code 0} and {@code 1}
+     * @return the latency in nanoseconds that the given share of timed calls stayed below,
+     *         or {@code 0} if no call was timed
+     * @author LeyCM
+     * @since 1.1.2
+     */
+    public long percentileNanos(double percentile) {
+        long target = (long) Math.ceil(sampled * percentile);
+        long seen = 0;
+        for (int i = 0; i < histogram.length; i++) {
+            seen += histogram[i];
+            if (seen >= target && seen > 0) return 2L << i;
+        }
+        return 0;
+    }
+
+    /**
+     * Formats these statistics as one CSV line, matching {@link #CSV_HEADER}.
+     *
+     * @return the statistics as comma separated values
+     * @author LeyCM
+     * @since 1.1.2
+     */
+    public @NotNull String toCsv() {
+        return String.join(",", eventType.getName(), owner.getName(), method, level.name(),
+                Long.toString(invocations), Long.toString(sampled), Long.toString(sampledNanos),
+                Long.toString(estimatedNanos()), Long.toString(percentileNanos(0.5)),
+                Long.toString(percentileNanos(0.99)));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof HandlerStats stats && eventType == stats.eventType && owner == stats.owner
+                && method.equals(stats.method) && level == stats.level && invocations == stats.invocations
+                && sampled == stats.sampled && sampledNanos == stats.sampledNanos
+                && Arrays.equals(histogram, stats.histogram);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Objects.hash(eventType, owner, method, level, invocations, sampled, sampledNanos)
+                + Arrays.hashCode(histogram);
+    }
+
+    @Override
+    public @NotNull String toString() {
+        return "HandlerStats[eventType=" + eventType.getName() + ", owner=" + owner.getName() + ", method=" + method
+                + ", level=" + level + ", invocations=" + invocations + ", sampled=" + sampled
+                + ", sampledNanos=" + sampledNanos + ", histogram=" + Arrays.toString(histogram) + "]";
+    }
+
+    /**
+     * The CSV header for {@link #toCsv()}.
+     */
+    public static final String CSV_HEADER =
+            "event,owner,method,level,invocations,sampled,sampled_ns,estimated_ns,p50_ns,p99_ns";
+
+}
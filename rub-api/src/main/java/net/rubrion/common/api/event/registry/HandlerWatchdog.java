@@ -0,0 +1,213 @@
+/**
+ * RPL-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the RPL-LICENSE. <br>
+ * License at: <a href="https://github.com/rubrionmc/.github/blob/main/licensens/RUBRION_PUBLIC">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <leycm@proton.me> <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package net.rubrion.common.api.event.registry;
+
+import net.rubrion.common.api.event.Event;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Watchdog isolating the {@link EventBus} from slow or failing handlers.
+ * <p>
+ * Once installed through {@link EventBus#watchdog(HandlerWatchdog)}, every resolved handler is
+ * wrapped in a guard that times each call. A call slower than the latency threshold or ending
+ * with an exception is a strike; a successful call in time clears the strikes. A handler
+ * reaching the strike threshold in a row is tripped for the cooldown and handled according
+ * to the {@link Action}.
+ * </p>
+ * <p>
+ * Exceptions of guarded handlers no longer abort the fire: they are passed to the uncaught
+ * exception handler of the calling thread and the remaining handlers still run. Strikes and
+ * trips are kept per registered handler and survive re-resolution; they are dropped once the
+ * handler is unregistered.
+ * </p>
+ *
+ * @author LeyCM
+ * @since 1.1.2
+ * @see EventBus#watchdog(HandlerWatchdog)
+ */
+public final class HandlerWatchdog {
+    private final long latencyNanos;
+    private final int strikes;
+    private final Action action;
+    private final long cooldownNanos;
+    private final Map<Consumer<Event>, GuardedHandler.Standing> guards = new ConcurrentHashMap<>();
+    private final LongAdder trips = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private volatile Executor quarantine = Executors.newVirtualThreadPerTaskExecutor();
+
+    /**
+     * What happens to a tripped handler during its cooldown.
+     *
+     * @author LeyCM
+     * @since 1.1.2
+     */
+    public enum Action {
+        /**
+         * Skips the handler. After the cooldown the circuit is half open: the next strike
+         * trips the handler again, a successful call closes the circuit.
+         */
+        CIRCUIT_BREAK,
+
+        /**
+         * Runs the handler asynchronously on the quarantine executor with a
+         * {@link net.rubrion.common.api.event.able.Monitorable#copy()} of the event. Events that
+         * are not monitorable cannot be detached from the firing thread, which still passes them
+         * to the remaining handlers and may recycle them into their pool, so the handler skips
+         * them like {@link #CIRCUIT_BREAK}. After the cooldown the handler runs inline again,
+         * half open like {@link #CIRCUIT_BREAK}.
+         */
+        QUARANTINE,
+
+        /**
+         * Skips the handler. After the cooldown the handler is restored with all strikes cleared.
+         */
+        DISABLE
+    }
+
+    /**
+     * Creates a new watchdog.
+     *
+     * @param latency the time a call may take before it counts as a strike, must be positive
+     * @param strikes the number of strikes in a row that trip a handler, must be positive
+     * @param action what happens to a tripped handler, must not be {@code null}
+     * @param cooldown the time a handler stays tripped, must be positive
+     * @throws IllegalArgumentException if {@code latency}, {@code strikes} or {@code cooldown} is not positive
+     * @author LeyCM
+     * @since 1.1.2
+     */
+    public HandlerWatchdog(@NotNull Duration latency, int strikes, @NotNull Action action, @NotNull Duration cooldown) {
+        if (latency.isNegative() || latency.isZero()) throw new IllegalArgumentException("latency must be positive");
+        if (strikes < 1) throw new IllegalArgumentException("strikes must be positive");
+        if (cooldown.isNegative() || cooldown.isZero()) throw new IllegalArgumentException("cooldown must be positive");
+
+        this.latencyNanos = latency.toNanos();
+        this.strikes = strikes;
+        this.action = action;
+        this.cooldownNanos = cooldown.toNanos();
+    }
+
+    /**
+     * Sets the executor quarantined handlers run on. Defaults to a new virtual thread per call.
+     *
+     * @param executor the executor for {@link Action#QUARANTINE quarantined} calls, must not be {@code null}
+     * @author LeyCM
+     * @since 1.1.2
+     */
+    public void quarantine(@NotNull Executor executor) {
+        this.quarantine = executor;
+    }
+
+    /**
+     * Returns the action applied to tripped handlers.
+     *
+     * @return the action of this watchdog
+     * @author LeyCM
+     * @since 1.1.2
+     */
+    public @NotNull Action action() {
+        return action;
+    }
+
+    /**
+     * Returns how often a handler was tripped.
+     *
+     * @return the number of trips since creation
+     * @author LeyCM
+     * @since 1.1.2
+     */
+    public long trips() {
+        return trips.sum();
+    }
+
+    /**
+     * Returns how many guarded calls ended with an exception.
+     *
+     * @return the number of failed calls since creation
+     * @author LeyCM
+     * @since 1.1.2
+     */
+    public long failures() {
+        return failures.sum();
+    }
+
+    /**
+     * Returns the number of handlers that are currently tripped.
+     *
+     * @return the number of handlers in their cooldown
+     * @author LeyCM
+     * @since 1.1.2
+     */
+    public int tripped() {
+        int tripped = 0;
+        for (GuardedHandler.Standing standing : guards.values()) if (standing.isTripped()) tripped++;
+        return tripped;
+    }
+
+    /**
+     * Wraps a handler in a guard sharing the strikes of every other guard of the same handler.
+     *
+     * @param handler the registered handler the strikes are kept for
+     * @param decorated the handler to call, {@code handler} or a decorator of it
+     * @return the guarded handler
+     */
+    @NotNull Consumer<Event> guard(@NotNull Consumer<Event> handler, @NotNull Consumer<Event> decorated) {
+        return new GuardedHandler(guards.computeIfAbsent(handler, unused -> new GuardedHandler.Standing(this)), decorated);
+    }
+
+    /**
+     * Drops the strikes of unregistered handlers.
+     *
+     * @param removed the handlers removed from the bus
+     */
+    void forget(@NotNull Collection<? extends Consumer<Event>> removed) {
+        for (Consumer<Event> handler : removed) guards.remove(handler);
+    }
+
+    long latencyNanos() {
+        return latencyNanos;
+    }
+
+    int strikes() {
+        return strikes;
+    }
+
+    long cooldownNanos() {
+        return cooldownNanos;
+    }
+
+    @NotNull Executor quarantineExecutor() {
+        return quarantine;
+    }
+
+    /**
+     * Counts a handler being tripped.
+     */
+    void trip() {
+        trips.increment();
+    }
+
+    /**
+     * Counts a guarded call ending with an exception.
+     */
+    void fail() {
+        failures.increment();
+    }
+
+}
@@ -0,0 +1,82 @@
+/**
+ * RPL-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the RPL-LICENSE. <br>
+ * License at: <a href="https://github.com/rubrionmc/.github/blob/main/licensens/RUBRION_PUBLIC">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <leycm@proton.me> <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package net.rubrion.common.api.event.registry;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.function.Consumer;
+
+/**
+ * In-memory {@link BridgeTransport} connecting bridges within one process, meant for tests.
+ * <p>
+ * All transports created through {@link #connect()} from the same origin form one network.
+ * A sent frame is handed to the receivers of all other open transports of the network
+ * directly on the sending thread.
+ * </p>
+ *
+ * @author LeyCM
+ * @since 1.1.2
+ * @see EventBridge
+ */
+public final class LoopbackTransport implements BridgeTransport {
+    private final Set<LoopbackTransport> network;
+    private volatile Consumer<byte[]> receiver;
+
+    /**
+     * Creates a new transport on a new, empty network.
+     *
+     * @author LeyCM
+     * @since 1.1.2
+     */
+    public LoopbackTransport() {
+        this(new CopyOnWriteArraySet<>());
+    }
+
+    private LoopbackTransport(@NotNull Set<LoopbackTransport> network) {
+        this.network = network;
+    }
+
+    /**
+     * Creates another transport on the network of this transport.
+     *
+     * @return a new transport receiving the frames sent by this one and vice versa
+     * @author LeyCM
+     * @since 1.1.2
+     */
+    @Contract("-> new")
+    public @NotNull LoopbackTransport connect() {
+        return new LoopbackTransport(network);
+    }
+
+    @Override
+    public void open(@NotNull Consumer<byte[]> receiver) {
+        this.receiver = receiver;
+        network.add(this);
+    }
+
+    @Override
+    public void send(byte @NotNull [] frame) {
+        for (LoopbackTransport peer : network) {
+            Consumer<byte[]> target = peer.receiver;
+            if (peer != this && target != null) target.accept(frame);
+        }
+    }
+
+    @Override
+    public void close() {
+        network.remove(this);
+        receiver = null;
+    }
+
+}
@@ -0,0 +1,119 @@
+/**
+ * RPL-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the RPL-LICENSE. <br>
+ * License at: <a href="https://github.com/rubrionmc/.github/blob/main/licensens/RUBRION_PUBLIC">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <leycm@proton.me> <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package net.rubrion.common.api.event.registry;
+
+import net.rubrion.common.api.event.Event;
+import net.rubrion.common.api.event.handler.HandlerPriority;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Decorator counting and sampling the calls of one handler for one concrete event type.
+ * <p>
+ * All counters are {@link LongAdder}s, so concurrent firing threads do not contend on a
+ * shared cache line. Whether a call is timed is decided with {@link ThreadLocalRandom},
+ * so unsampled calls cost one counter increment and one random number.
+ * </p>
+ *
+ * @author LeyCM
+ * @since 1.1.2
+ * @see EventMetrics
+ */
+final class MeasuredHandler implements BatchHandler {
+    static final int BUCKETS = 40;
+
+    private final Class<?> eventType;
+    private final HandlerPriority level;
+    private final Consumer<Event> handler;
+    private final int sampleRate;
+
+    private final LongAdder invocations = new LongAdder();
+    private final LongAdder sampled = new LongAdder();
+    private final LongAdder nanos = new LongAdder();
+    private final LongAdder[] histogram = new LongAdder[BUCKETS];
+
+    MeasuredHandler(@NotNull Class<?> eventType, @NotNull HandlerPriority level,
+                    @NotNull Consumer<Event> handler, int sampleRate) {
+        this.eventType = eventType;
+        this.level = level;
+        this.handler = handler;
+        this.sampleRate = sampleRate;
+        for (int i = 0; i < BUCKETS; i++) histogram[i] = new LongAdder();
+    }
+
+    @Override
+    public void accept(Event event) {
+        invocations.increment();
+        if (!sample()) {
+            handler.accept(event);
+            return;
+        }
+
+        long start = System.nanoTime();
+        try { handler.accept(event); }
+        finally { record(System.nanoTime() - start); }
+    }
+
+    @Override
+    public void acceptAll(@NotNull List<Event> events) {
+        if (!(handler instanceof BatchHandler batch)) {
+            for (int i = 0, size = events.size(); i < size; i++) accept(events.get(i));
+            return;
+        }
+
+        invocations.increment();
+        if (!sample()) {
+            batch.acceptAll(events);
+            return;
+        }
+
+        long start = System.nanoTime();
+        try { batch.acceptAll(events); }
+        finally { record(System.nanoTime() - start); }
+    }
+
+    /**
+     * Captures the current counters.
+     *
+     * @return the statistics of this handler
+     */
+    @NotNull HandlerStats stats() {
+        long[] buckets = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) buckets[i] = histogram[i].sum();
+
+        return new HandlerStats(eventType, HandlerInvoker.ownerOf(handler), HandlerInvoker.nameOf(handler), level, invocations.sum(), sampled.sum(), nanos.sum(), buckets);
+    }
+
+    /**
+     * Sets all counters back to zero.
+     */
+    void reset() {
+        invocations.reset();
+        sampled.reset();
+        nanos.reset();
+        for (LongAdder bucket : histogram) bucket.reset();
+    }
+
+    private boolean sample() {
+        return sampleRate == 1 || ThreadLocalRandom.current().nextInt(sampleRate) == 0;
+    }
+
+    private void record(long elapsed) {
+        sampled.increment();
+        nanos.add(elapsed);
+        histogram[Math.min(BUCKETS - 1, 63 - Long.numberOfLeadingZeros(elapsed | 1))].increment();
+    }
+
+}
@@ -0,0 +1,218 @@
+/**
+ * RPL-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the RPL-LICENSE. <br>
+ * License at: <a href="https://github.com/rubrionmc/.github/blob/main/licensens/RUBRION_PUBLIC">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <leycm@proton.me> <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package net.rubrion.common.api.event.registry;
+
+import net.rubrion.common.api.event.Event;
+import net.rubrion.common.api.event.able.Monitorable;
+import net.rubrion.common.api.event.handler.HandlerPriority;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Bounded background executor for {@link HandlerPriority#MONITOR} handlers.
+ * <p>
+ * Monitor handlers only ever see a {@link Monitorable#copy()} of the event and cannot influence
+ * its outcome, so they do not have to run on the firing thread. When installed through
+ * {@link EventBus#monitorExecutor(MonitorExecutor)}, the copy is still created on the firing
+ * thread, but the monitor handlers are queued to the worker threads of this executor. What
+ * happens when the queue is full is decided by the {@link Overflow} policy.
+ * </p>
+ * <p>
+ * A failing monitor handler does not stop the remaining monitor handlers of the same event;
+ * its exception is passed to the uncaught exception handler of the worker thread.
+ * </p>
+ *
+ * @author LeyCM
+ * @since 1.1.2
+ * @see EventBus#monitorExecutor(MonitorExecutor)
+ */
+public final class MonitorExecutor implements AutoCloseable {
+    private static final AtomicInteger POOLS = new AtomicInteger();
+    private static final long BLOCK_CHECK_MILLIS = 10L;
+
+    private final ThreadPoolExecutor pool;
+    private final Overflow overflow;
+    private final LongAdder dropped = new LongAdder();
+
+    /**
+     * Policy applied when a monitor task is submitted while the queue is full.
+     *
+     * @author LeyCM
+     * @since 1.1.2
+     */
+    public enum Overflow {
+        /**
+         * Discards the monitor handlers for this event and counts it in {@link #dropped()}.
+         */
+        DROP,
+
+        /**
+         * Blocks the firing thread until the queue has room again, or drops the event once
+         * the executor is closed.
+         */
+        BLOCK,
+
+        /**
+         * Runs the monitor handlers inline on the firing thread.
+         */
+        RUN_INLINE
+    }
+
+    /**
+     * Creates a new monitor executor with daemon worker threads.
+     *
+     * @param threads the number of worker threads, must be positive
+     * @param capacity the maximum number of queued events, must be positive
+     * @param overflow the policy for a full queue, must not be {@code null}
+     * @throws IllegalArgumentException if {@code threads} or {@code capacity} is not positive
+     * @author LeyCM
+     * @since 1.1.2
+     */
+    public MonitorExecutor(int threads, int capacity, @NotNull Overflow overflow) {
+        if (threads < 1) throw new IllegalArgumentException("threads must be positive");
+        if (capacity < 1) throw new IllegalArgumentException("capacity must be positive");
+
+        String prefix = "rub-monitor-" + POOLS.incrementAndGet() + "-";
+        AtomicInteger workers = new AtomicInteger();
+
+        this.overflow = overflow;
+        this.pool = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(capacity), r -> {
+                    Thread thread = new Thread(r, prefix + workers.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, this::rejected);
+    }
+
+    /**
+     * Returns the overflow policy of this executor.
+     *
+     * @return the policy applied when the queue is full
+     * @author LeyCM
+     * @since 1.1.2
+     */
+    public @NotNull Overflow overflow() {
+        return overflow;
+    }
+
+    /**
+     * Returns how many events had their monitor handlers dropped.
+     *
+     * @return the number of dropped events since creation
+     * @author LeyCM
+     * @since 1.1.2
+     * @see Overflow#DROP
+     */
+    public long dropped() {
+        return dropped.sum();
+    }
+
+    /**
+     * Returns the number of events currently waiting for a worker.
+     *
+     * @return the current queue size
+     * @author LeyCM
+     * @since 1.1.2
+     */
+    public int queued() {
+        return pool.getQueue().size();
+    }
+
+    /**
+     * Stops the worker threads after the queued monitor handlers have run.
+     * Events submitted afterwards are dropped.
+     *
+     * @author LeyCM
+     * @since 1.1.2
+     */
+    @Override
+    public void close() {
+        pool.shutdown();
+    }
+
+    /**
+     * Queues the monitor handlers {@code handlers[from..]} for the given event copy.
+     *
+     * @param copy the monitor copy of the event
+     * @param handlers the handler array of the firing snapshot
+     * @param from the index of the first monitor handler
+     */
+    void submit(@NotNull Event copy, @NotNull Consumer<Event>[] handlers, int from) {
+        pool.execute(() -> run(copy, handlers, from));
+    }
+
+    /**
+     * Queues the monitor handlers {@code handlers[from..]} for a batch of event copies.
+     * The whole batch counts as a single queued task.
+     *
+     * @param copies the monitor copies of the events
+     * @param handlers the handler array of the firing snapshot
+     * @param from the index of the first monitor handler
+     */
+    void submitAll(@NotNull List<Event> copies, @NotNull Consumer<Event>[] handlers, int from) {
+        pool.execute(() -> runAll(copies, handlers, from));
+    }
+
+    private static void runAll(@NotNull List<Event> copies, @NotNull Consumer<Event>[] handlers, int from) {
+        for (int i = from; i < handlers.length; i++) {
+            try { EventExecutor.fireBatch(handlers[i], copies); }
+            catch (Throwable ex) {
+                Thread thread = Thread.currentThread();
+                thread.getUncaughtExceptionHandler().uncaughtException(thread, ex);
+            }
+        }
+    }
+
+    private static void run(@NotNull Event copy, @NotNull Consumer<Event>[] handlers, int from) {
+        for (int i = from; i < handlers.length; i++) {
+            try { handlers[i].accept(copy); }
+            catch (Throwable ex) {
+                Thread thread = Thread.currentThread();
+                thread.getUncaughtExceptionHandler().uncaughtException(thread, ex);
+            }
+        }
+    }
+
+    private void rejected(@NotNull Runnable task, @NotNull ThreadPoolExecutor executor) {
+        if (executor.isShutdown()) {
+            dropped.increment();
+            return;
+        }
+
+        switch (overflow) {
+            case DROP -> dropped.increment();
+            case RUN_INLINE -> task.run();
+            case BLOCK -> {
+                try {
+                    while (!executor.getQueue().offer(task, BLOCK_CHECK_MILLIS, TimeUnit.MILLISECONDS)) {
+                        if (executor.isShutdown()) {
+                            dropped.increment();
+                            return;
+                        }
+                    }
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    dropped.increment();
+                    return;
+                }
+
+                // closed while queueing, the workers may already be gone and never take the task
+                if (executor.isShutdown() && executor.remove(task)) dropped.increment();
+            }
+        }
+    }
+
+}
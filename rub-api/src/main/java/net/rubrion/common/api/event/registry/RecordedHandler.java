@@ -0,0 +1,90 @@
+/**
+ * RPL-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the RPL-LICENSE. <br>
+ * License at: <a href="https://github.com/rubrionmc/.github/blob/main/licensens/RUBRION_PUBLIC">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <leycm@proton.me> <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package net.rubrion.common.api.event.registry;
+
+import net.rubrion.common.api.event.Event;
+import net.rubrion.common.api.event.handler.HandlerPriority;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Decorator emitting a {@link HandlerRecord} for every call of one handler.
+ * <p>
+ * It is the outermost decorator of a resolved handler, created anew on every resolution while
+ * handler calls are recorded. The {@link EventMetrics} and {@link HandlerWatchdog} decorators it
+ * wraps are keyed by the registered handler, so recording never splits their state. The
+ * recorded time includes their overhead, and calls skipped by a tripped guard are recorded too.
+ * </p>
+ *
+ * @author LeyCM
+ * @since 1.1.2
+ * @see FlightRecording
+ */
+final class RecordedHandler implements BatchHandler {
+    private final Class<?> eventType;
+    private final Class<?> owner;
+    private final String method;
+    private final String level;
+    private final Consumer<Event> handler;
+
+    /**
+     * Creates a new recording decorator.
+     *
+     * @param eventType the concrete event class the handler is resolved for
+     * @param level the level of the handler
+     * @param registered the registered handler, naming the record
+     * @param handler the handler to call, {@code registered} or a decorator of it
+     */
+    RecordedHandler(@NotNull Class<?> eventType, @NotNull HandlerPriority level,
+                    @NotNull Consumer<Event> registered, @NotNull Consumer<Event> handler) {
+        this.eventType = eventType;
+        this.owner = HandlerInvoker.ownerOf(registered);
+        this.method = HandlerInvoker.nameOf(registered);
+        this.level = level.name();
+        this.handler = handler;
+    }
+
+    @Override
+    public void accept(Event event) {
+        HandlerRecord record = new HandlerRecord();
+        record.begin();
+        try { handler.accept(event); }
+        finally { commit(record, 1); }
+    }
+
+    @Override
+    public void acceptAll(@NotNull List<Event> events) {
+        if (!(handler instanceof BatchHandler batch)) {
+            for (int i = 0, size = events.size(); i < size; i++) accept(events.get(i));
+            return;
+        }
+
+        HandlerRecord record = new HandlerRecord();
+        record.begin();
+        try { batch.acceptAll(events); }
+        finally { commit(record, events.size()); }
+    }
+
+    private void commit(@NotNull HandlerRecord record, int events) {
+        record.end();
+        if (!record.shouldCommit()) return;
+
+        record.eventType = eventType;
+        record.owner = owner;
+        record.method = method;
+        record.level = level;
+        record.events = events;
+        record.commit();
+    }
+
+}
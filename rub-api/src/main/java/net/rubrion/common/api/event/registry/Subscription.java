@@ -0,0 +1,148 @@
+/**
+ * RPL-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the RPL-LICENSE. <br>
+ * License at: <a href="https://github.com/rubrionmc/.github/blob/main/licensens/RUBRION_PUBLIC">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <leycm@proton.me> <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package net.rubrion.common.api.event.registry;
+
+import net.rubrion.common.api.api.ApiModule;
+import net.rubrion.common.api.event.Event;
+import net.rubrion.common.api.event.handler.HandlerList;
+import net.rubrion.common.api.id.Identifier;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Handle for the handlers registered from one {@link HandlerList}.
+ * <p>
+ * Closing the subscription removes all of its handlers from the executors they were
+ * registered on. Each affected executor swaps in a new handler snapshot once, so closing
+ * never blocks threads that are firing events; fires already in progress finish with the
+ * handlers they started with. Rebuilding a snapshot copies the handler array of the executor,
+ * so closing costs O(n) in the handlers registered on each affected executor. Handlers
+ * registered for a routing key are removed from the handlers of that key only.
+ * </p>
+ * <p>
+ * A subscription of a module is owned by it before its handlers are registered. Closing it
+ * while the registration is still running, for example from {@link EventBus#unregisterAll(ApiModule)},
+ * waits for the registration to complete and then removes all of its handlers.
+ * </p>
+ *
+ * @author LeyCM
+ * @since 1.1.2
+ * @see EventBus#register(HandlerList)
+ * @see EventBus#unregisterAll(ApiModule)
+ */
+public final class Subscription implements AutoCloseable {
+    private final HandlerList list;
+    private final ApiModule owner;
+    private final Identifier<?> key;
+    private final Map<EventExecutor, List<Consumer<Event>>> handlers;
+    private final Consumer<Subscription> onClose;
+    private final AtomicBoolean active = new AtomicBoolean(true);
+
+    /**
+     * Creates a new subscription.
+     *
+     * @param list the registered handler list
+     * @param owner the module owning the registration, or {@code null}
+     * @param key the routing key all handlers were registered for, or {@code null}
+     * @param handlers the registered handlers grouped by the executor they were added to,
+     *                 locked by the registering thread until all handlers are added
+     * @param onClose callback run once after the handlers are removed
+     */
+    Subscription(@NotNull HandlerList list, @Nullable ApiModule owner, @Nullable Identifier<?> key,
+                 @NotNull Map<EventExecutor, List<Consumer<Event>>> handlers,
+                 @NotNull Consumer<Subscription> onClose) {
+        this.list = list;
+        this.owner = owner;
+        this.key = key;
+        this.handlers = handlers;
+        this.onClose = onClose;
+    }
+
+    /**
+     * Returns the handler list this subscription was created for.
+     *
+     * @return the registered handler list
+     * @author LeyCM
+     * @since 1.1.2
+     */
+    public @NotNull HandlerList list() {
+        return list;
+    }
+
+    /**
+     * Returns the module that owns this subscription.
+     *
+     * @return the owning module, or {@code null} if the handlers were registered without owner
+     * @author LeyCM
+     * @since 1.1.2
+     */
+    public @Nullable ApiModule owner() {
+        return owner;
+    }
+
+    /**
+     * Returns the routing key the handlers of this subscription listen to.
+     *
+     * @return the routing key, or {@code null} if the handlers receive every event
+     * @author LeyCM
+     * @since 1.1.2
+     */
+    public @Nullable Identifier<?> key() {
+        return key;
+    }
+
+    /**
+     * Checks if the handlers of this subscription are still registered.
+     *
+     * @return {@code true} if this subscription has not been closed, {@code false} otherwise
+     * @author LeyCM
+     * @since 1.1.2
+     */
+    public boolean isActive() {
+        return active.get();
+    }
+
+    /**
+     * Returns all handlers registered by this subscription.
+     *
+     * @return the registered handlers of every executor
+     */
+    @NotNull List<Consumer<Event>> handlers() {
+        synchronized (handlers) {
+            List<Consumer<Event>> all = new ArrayList<>();
+            handlers.values().forEach(all::addAll);
+            return all;
+        }
+    }
+
+    /**
+     * Removes all handlers of this subscription. Closing an already closed subscription has no effect.
+     *
+     * @author LeyCM
+     * @since 1.1.2
+     */
+    @Override
+    public void close() {
+        if (!active.compareAndSet(true, false)) return;
+
+        synchronized (handlers) {
+            handlers.forEach((executor, registered) -> executor.unregisterAll(registered, key));
+        }
+        onClose.accept(this);
+    }
+
+}
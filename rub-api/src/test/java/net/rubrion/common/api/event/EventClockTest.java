@@ -0,0 +1,83 @@
+/**
+ * RPL-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the RPL-LICENSE. <br>
+ * License at: <a href="https://github.com/rubrionmc/.github/blob/main/licensens/RUBRION_PUBLIC">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <leycm@proton.me> <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package net.rubrion.common.api.event;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Tests the coarse {@link EventClock} and the stamps of {@link AbstractEvent}.
+ *
+ * @author LeyCM
+ * @since 1.1.2
+ */
+class EventClockTest {
+
+    @Test
+    void sameResolutionSharesOneClock() {
+        assertSame(EventClock.coarse(Duration.ofMillis(3)), EventClock.coarse(Duration.ofMillis(3)));
+        assertNotSame(EventClock.coarse(Duration.ofMillis(3)), EventClock.coarse(Duration.ofMillis(4)));
+    }
+
+    @Test
+    void coarseClockAdvances() throws InterruptedException {
+        EventClock clock = EventClock.coarse(Duration.ofMillis(1));
+        long first = clock.epochNanos();
+        Thread.sleep(50);
+
+        assertTrue(clock.epochNanos() > first);
+        assertTrue(Math.abs(clock.epochNanos() - System.currentTimeMillis() * 1_000_000L) < 1_000_000_000L);
+    }
+
+    @Test
+    void interruptedTickerKeepsParking() throws InterruptedException {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadCpuTimeSupported() && threads.isThreadCpuTimeEnabled());
+
+        EventClock clock = EventClock.coarse(Duration.ofMillis(20));
+        clock.epochNanos();
+        List<Thread> tickers = Thread.getAllStackTraces().keySet().stream()
+                .filter(thread -> thread.getName().equals("rub-clock")).toList();
+        assertFalse(tickers.isEmpty());
+
+        tickers.forEach(Thread::interrupt);
+        long before = tickers.stream().mapToLong(thread -> threads.getThreadCpuTime(thread.threadId())).sum();
+        Thread.sleep(200);
+        long after = tickers.stream().mapToLong(thread -> threads.getThreadCpuTime(thread.threadId())).sum();
+
+        assertTrue(after - before < 50_000_000L, "tickers spun for " + (after - before) + " ns");
+        long stamp = clock.epochNanos();
+        Thread.sleep(50);
+        assertTrue(clock.epochNanos() > stamp);
+    }
+
+    @Test
+    void restampingResetsTheAge() throws InterruptedException {
+        Stamped event = new Stamped();
+        Thread.sleep(5);
+        long age = event.ageNanos();
+        assertTrue(age >= 5_000_000L);
+
+        event.stamp();
+        assertTrue(event.ageNanos() < age);
+        assertEquals(event.timestampNanos(), EventClock.epochNanos(event.timestamp()));
+    }
+
+    static final class Stamped extends AbstractEvent { }
+
+}
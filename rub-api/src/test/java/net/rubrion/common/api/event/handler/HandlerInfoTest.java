@@ -0,0 +1,115 @@
+/**
+ * RPL-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the RPL-LICENSE. <br>
+ * License at: <a href="https://github.com/rubrionmc/.github/blob/main/licensens/RUBRION_PUBLIC">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <leycm@proton.me> <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package net.rubrion.common.api.event.handler;
+
+import net.rubrion.common.api.event.Event;
+import net.rubrion.common.api.event.able.Cancelable;
+import net.rubrion.common.api.event.able.Keyed;
+import net.rubrion.common.api.event.exception.EventRegistrationException;
+import net.rubrion.common.api.event.registry.EventBus;
+import net.rubrion.common.api.event.registry.Subscription;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests which types handlers may be declared for and that they receive events along the type hierarchy.
+ *
+ * @author LeyCM
+ * @since 1.1.2
+ */
+class HandlerInfoTest {
+
+    @Test
+    void acceptsEventSubtypesAndMarkerInterfaces() {
+        assertTrue(HandlerInfo.isEventType(Event.class));
+        assertTrue(HandlerInfo.isEventType(Base.class));
+        assertTrue(HandlerInfo.isEventType(Child.class));
+        assertTrue(HandlerInfo.isEventType(Cancelable.class));
+        assertTrue(HandlerInfo.isEventType(Keyed.class));
+    }
+
+    @Test
+    void rejectsUnrelatedTypes() {
+        assertFalse(HandlerInfo.isEventType(Runnable.class));
+        assertFalse(HandlerInfo.isEventType(Object.class));
+        assertFalse(HandlerInfo.isEventType(String.class));
+        assertThrows(EventRegistrationException.class, () -> new HandlerInfo(Runnable.class, HandlerPriority.NORMAL));
+        assertThrows(EventRegistrationException.class, () -> EventBus.register(new Unrelated()));
+    }
+
+    @Test
+    void handlersReceiveEventsAlongTheTypeHierarchy() {
+        Hierarchy list = new Hierarchy();
+        Subscription subscription = EventBus.register(list);
+        try {
+            EventBus.fire(new Child());
+            EventBus.fire(new Base());
+        } finally {
+            subscription.close();
+        }
+
+        assertEquals(List.of("child", "base", "cancelable", "base", "cancelable"), list.calls);
+    }
+
+    static class Base implements Event, Cancelable {
+        private boolean canceled;
+
+        @Override
+        public Instant timestamp() {
+            return Instant.EPOCH;
+        }
+
+        @Override
+        public void setCanceled(boolean state) {
+            canceled = state;
+        }
+
+        @Override
+        public boolean isCanceled() {
+            return canceled;
+        }
+    }
+
+    static final class Child extends Base { }
+
+    static final class Hierarchy implements HandlerList {
+        private final List<String> calls = new ArrayList<>();
+
+        @Handler(level = HandlerPriority.EARLY)
+        public void child(Child event) {
+            calls.add("child");
+        }
+
+        @Handler
+        public void base(Base event) {
+            calls.add("base");
+        }
+
+        @Handler(level = HandlerPriority.LATE)
+        public void cancelable(Cancelable event) {
+            calls.add("cancelable");
+        }
+    }
+
+    static final class Unrelated implements HandlerList {
+
+        @Handler
+        public void run(Runnable task) {
+            task.run();
+        }
+    }
+
+}
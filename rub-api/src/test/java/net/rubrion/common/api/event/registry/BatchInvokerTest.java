@@ -0,0 +1,99 @@
+/**
+ * RPL-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the RPL-LICENSE. <br>
+ * License at: <a href="https://github.com/rubrionmc/.github/blob/main/licensens/RUBRION_PUBLIC">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <leycm@proton.me> <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package net.rubrion.common.api.event.registry;
+
+import net.rubrion.common.api.event.Event;
+import net.rubrion.common.api.event.handler.Handler;
+import net.rubrion.common.api.event.handler.HandlerList;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests passing single fires and batches to batch handlers.
+ *
+ * @author LeyCM
+ * @since 1.1.2
+ */
+class BatchInvokerTest {
+
+    @Test
+    void singleFiresReuseOneListPerThread() {
+        Listener listener = new Listener();
+        Subscription subscription = EventBus.register(listener);
+        try {
+            EventBus.fire(new Ping(1));
+            EventBus.fire(new Ping(2));
+        } finally {
+            subscription.close();
+        }
+
+        assertEquals(List.of(List.of(new Ping(1)), List.of(new Ping(2))), listener.seen);
+        assertSame(listener.lists.get(0), listener.lists.get(1));
+        assertThrows(UnsupportedOperationException.class, () -> listener.lists.get(0).add(new Ping(3)));
+    }
+
+    @Test
+    void nestedSingleFiresKeepTheOuterList() {
+        Listener listener = new Listener();
+        Subscription subscription = EventBus.register(listener);
+        try {
+            EventBus.fire(new Ping(0));
+        } finally {
+            subscription.close();
+        }
+
+        assertEquals(List.of(List.of(new Ping(0)), List.of(new Ping(1))), listener.seen);
+        assertEquals(new Ping(0), listener.after);
+    }
+
+    @Test
+    void fireAllPassesTheWholeBatch() {
+        Listener listener = new Listener();
+        Subscription subscription = EventBus.register(listener);
+        try {
+            EventBus.fireAll(List.of(new Ping(1), new Ping(2), new Ping(3)));
+        } finally {
+            subscription.close();
+        }
+
+        assertEquals(List.of(List.of(new Ping(1), new Ping(2), new Ping(3))), listener.seen);
+    }
+
+    record Ping(int value) implements Event {
+
+        @Override
+        public Instant timestamp() {
+            return Instant.EPOCH;
+        }
+    }
+
+    static final class Listener implements HandlerList {
+        private final List<List<Ping>> seen = new ArrayList<>();
+        private final List<List<Ping>> lists = new ArrayList<>();
+        private Ping after;
+
+        @Handler
+        public void on(List<Ping> pings) {
+            seen.add(List.copyOf(pings));
+            lists.add(pings);
+            if (pings.size() == 1 && pings.get(0).value() == 0) {
+                EventBus.fire(new Ping(1));
+                after = pings.get(0);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,153 @@
+/**
+ * RPL-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the RPL-LICENSE. <br>
+ * License at: <a href="https://github.com/rubrionmc/.github/blob/main/licensens/RUBRION_PUBLIC">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <leycm@proton.me> <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package net.rubrion.common.api.event.registry;
+
+import net.rubrion.common.api.event.Event;
+import net.rubrion.common.api.event.able.Cancelable;
+import net.rubrion.common.api.event.handler.Handler;
+import net.rubrion.common.api.event.handler.HandlerList;
+import net.rubrion.common.api.event.handler.HandlerPriority;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests that {@link Handler#ignoreCanceled()} handlers are skipped once an event is canceled,
+ * on the iterated, the compiled and the batch path.
+ *
+ * @author LeyCM
+ * @since 1.1.2
+ */
+class CancelSkippingTest {
+    private final Listener listener = new Listener();
+    private Subscription subscription;
+
+    @BeforeEach
+    void register() {
+        subscription = EventBus.register(listener);
+    }
+
+    @AfterEach
+    void close() {
+        subscription.close();
+        EventBus.compiled(Move.class, false);
+    }
+
+    @Test
+    void skipsIgnoringHandlersOnceCanceled() {
+        EventBus.fire(new Move(true));
+        assertEquals(sorted("cancel", "always", "always-late"), sorted(listener.calls));
+    }
+
+    @Test
+    void runsAllHandlersWhileNotCanceled() {
+        EventBus.fire(new Move(false));
+        assertEquals(sorted("cancel", "always", "skipped", "always-late", "skipped-late"), sorted(listener.calls));
+    }
+
+    @Test
+    void compiledDispatchSkipsTheSameHandlers() {
+        EventBus.compiled(Move.class, true);
+        EventBus.fire(new Move(true));
+        EventBus.fire(new Move(false));
+
+        assertEquals(sorted("cancel", "always", "always-late",
+                "cancel", "always", "skipped", "always-late", "skipped-late"), sorted(listener.calls));
+    }
+
+    @Test
+    void batchOnlyPassesTheRunningEventsToIgnoringHandlers() {
+        Move canceled = new Move(true);
+        Move running = new Move(false);
+        EventBus.fireAll(List.of(canceled, running));
+
+        assertEquals(sorted("cancel", "cancel", "always", "always", "skipped",
+                "always-late", "always-late", "skipped-late"), sorted(listener.calls));
+        assertEquals(List.of(running, running), listener.skippedEvents);
+    }
+
+    /**
+     * Handlers of one level run in registration order, and reflection does not guarantee the
+     * method order, so calls are compared regardless of their order.
+     */
+    private static @NotNull List<String> sorted(@NotNull String... calls) {
+        return sorted(List.of(calls));
+    }
+
+    private static @NotNull List<String> sorted(@NotNull List<String> calls) {
+        return calls.stream().sorted().toList();
+    }
+
+    static final class Move implements Event, Cancelable {
+        private final boolean cancelEarly;
+        private boolean canceled;
+
+        Move(boolean cancelEarly) {
+            this.cancelEarly = cancelEarly;
+        }
+
+        @Override
+        public Instant timestamp() {
+            return Instant.EPOCH;
+        }
+
+        @Override
+        public void setCanceled(boolean state) {
+            canceled = state;
+        }
+
+        @Override
+        public boolean isCanceled() {
+            return canceled;
+        }
+    }
+
+    static final class Listener implements HandlerList {
+        private final List<String> calls = new CopyOnWriteArrayList<>();
+        private final List<Move> skippedEvents = new CopyOnWriteArrayList<>();
+
+        @Handler(level = HandlerPriority.EARLY)
+        public void cancel(Move move) {
+            calls.add("cancel");
+            if (move.cancelEarly) move.cancel();
+        }
+
+        @Handler
+        public void always(Move move) {
+            calls.add("always");
+        }
+
+        @Handler(ignoreCanceled = true)
+        public void skipped(Move move) {
+            calls.add("skipped");
+            skippedEvents.add(move);
+        }
+
+        @Handler(level = HandlerPriority.LATE)
+        public void alwaysLate(Move move) {
+            calls.add("always-late");
+        }
+
+        @Handler(level = HandlerPriority.LATE, ignoreCanceled = true)
+        public void skippedLate(Move move) {
+            calls.add("skipped-late");
+            skippedEvents.add(move);
+        }
+    }
+
+}
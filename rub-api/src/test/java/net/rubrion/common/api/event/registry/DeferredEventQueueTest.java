@@ -0,0 +1,126 @@
+/**
+ * RPL-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the RPL-LICENSE. <br>
+ * License at: <a href="https://github.com/rubrionmc/.github/blob/main/licensens/RUBRION_PUBLIC">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <leycm@proton.me> <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package net.rubrion.common.api.event.registry;
+
+import net.rubrion.common.api.event.Event;
+import net.rubrion.common.api.event.handler.Handler;
+import net.rubrion.common.api.event.handler.HandlerList;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests firing deferred events per tick, by priority and within the tick budget.
+ *
+ * @author LeyCM
+ * @since 1.1.2
+ */
+class DeferredEventQueueTest {
+    private final Listener listener = new Listener();
+    private Subscription subscription;
+
+    @BeforeEach
+    void register() {
+        subscription = EventBus.register(listener);
+    }
+
+    @AfterEach
+    void close() {
+        subscription.close();
+    }
+
+    @Test
+    void higherPrioritiesFireFirst() {
+        DeferredEventQueue queue = new DeferredEventQueue(Duration.ofSeconds(10));
+        queue.priority(Urgent.class, 5);
+        queue.defer(new Low(1));
+        queue.defer(new Urgent(2));
+        queue.defer(new Low(3));
+        queue.defer(new Urgent(4));
+
+        assertEquals(4, queue.tick());
+        assertEquals(List.of(new Urgent(2), new Urgent(4), new Low(1), new Low(3)), listener.fired);
+        assertEquals(0, queue.size());
+    }
+
+    @Test
+    void remainingEventsCarryOverToTheNextTick() {
+        DeferredEventQueue queue = new DeferredEventQueue(Duration.ofNanos(1));
+        queue.priority(Urgent.class, 5);
+        queue.defer(new Low(1));
+        queue.defer(new Low(2));
+        queue.defer(new Urgent(3));
+
+        assertEquals(1, queue.tick());
+        assertEquals(List.of(new Urgent(3)), listener.fired);
+        assertEquals(2, queue.size());
+
+        // an event deferred between ticks still goes before queued events of a lower priority
+        queue.defer(new Urgent(4));
+        assertEquals(1, queue.tick());
+        assertEquals(1, queue.tick());
+        assertEquals(1, queue.tick());
+        assertEquals(0, queue.tick());
+        assertEquals(List.of(new Urgent(3), new Urgent(4), new Low(1), new Low(2)), listener.fired);
+    }
+
+    @Test
+    void failingHandlerKeepsTheRemainingEventsQueued() {
+        DeferredEventQueue queue = new DeferredEventQueue(Duration.ofSeconds(10));
+        queue.defer(new Low(1));
+        queue.defer(new Low(-1));
+        queue.defer(new Low(2));
+
+        assertThrows(RuntimeException.class, queue::tick);
+        assertEquals(1, queue.size());
+        assertEquals(1, queue.tick());
+        assertEquals(List.of(new Low(1), new Low(-1), new Low(2)), listener.fired);
+    }
+
+    record Low(int value) implements Event {
+
+        @Override
+        public Instant timestamp() {
+            return Instant.EPOCH;
+        }
+    }
+
+    record Urgent(int value) implements Event {
+
+        @Override
+        public Instant timestamp() {
+            return Instant.EPOCH;
+        }
+    }
+
+    static final class Listener implements HandlerList {
+        private final List<Event> fired = new ArrayList<>();
+
+        @Handler
+        public void on(Low low) {
+            fired.add(low);
+            if (low.value() < 0) throw new IllegalStateException("failing handler");
+        }
+
+        @Handler
+        public void on(Urgent urgent) {
+            fired.add(urgent);
+        }
+    }
+
+}
@@ -0,0 +1,312 @@
+/**
+ * RPL-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the RPL-LICENSE. <br>
+ * License at: <a href="https://github.com/rubrionmc/.github/blob/main/licensens/RUBRION_PUBLIC">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <leycm@proton.me> <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package net.rubrion.common.api.event.registry;
+
+import net.rubrion.common.api.event.Event;
+import net.rubrion.common.api.event.handler.Handler;
+import net.rubrion.common.api.event.handler.HandlerList;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.zip.Deflater;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests bridging events between two nodes connected by a {@link LoopbackTransport}.
+ *
+ * @author LeyCM
+ * @since 1.1.2
+ */
+class EventBridgeTest {
+    private static final int MAGIC = 0x52554231;
+    private static final Duration MANUAL = Duration.ofHours(1);
+
+    private final List<Throwable> reported = new CopyOnWriteArrayList<>();
+    private final Listener listener = new Listener();
+    private Thread.UncaughtExceptionHandler previous;
+    private Subscription subscription;
+
+    @BeforeEach
+    void register() {
+        previous = Thread.currentThread().getUncaughtExceptionHandler();
+        Thread.currentThread().setUncaughtExceptionHandler((thread, ex) -> reported.add(ex));
+        subscription = EventBus.register(listener);
+    }
+
+    @AfterEach
+    void close() {
+        subscription.close();
+        Thread.currentThread().setUncaughtExceptionHandler(previous);
+    }
+
+    @Test
+    void roundTripsEventsWithoutLoopingThemBack() throws IOException {
+        LoopbackTransport network = new LoopbackTransport();
+        EventBridge first = new EventBridge("first", network, MANUAL);
+        EventBridge second = new EventBridge("second", network.connect(), MANUAL);
+        try {
+            first.bridge(Ping.class, "test:ping", new PingCodec());
+            second.bridge(Ping.class, "test:ping", new PingCodec());
+
+            // both nodes share this bus, so both queue the locally fired event
+            EventBus.fire(new Ping(7, "hello"));
+            assertEquals(1, first.flush());
+            assertEquals(1, second.flush());
+
+            assertEquals(List.of(new Ping(7, "hello"), new Ping(7, "hello"), new Ping(7, "hello")), listener.pings);
+            assertEquals(1, first.received());
+            assertEquals(1, second.received());
+
+            // replayed events are not queued again
+            assertEquals(0, first.flush());
+            assertEquals(0, second.flush());
+            assertEquals(1, first.sent());
+            assertEquals(1, second.sent());
+            assertTrue(reported.isEmpty());
+        } finally {
+            first.close();
+            second.close();
+        }
+    }
+
+    @Test
+    void failingHandlerOnTheReceivingNodeDoesNotFailTheSender() throws IOException {
+        LoopbackTransport network = new LoopbackTransport();
+        EventBridge first = new EventBridge("first", network, MANUAL);
+        EventBridge second = new EventBridge("second", network.connect(), MANUAL);
+        Failing failing = new Failing();
+        Subscription failure = EventBus.register(failing);
+        try {
+            first.bridge(Ping.class, "test:ping", new PingCodec());
+            second.bridge(Ping.class, "test:ping", new PingCodec());
+            EventBus.fire(new Ping(13, "fail"));
+
+            failing.armed = true;
+            assertEquals(1, first.flush());
+            assertEquals(1, first.sent());
+            assertEquals(1, second.received());
+            assertEquals(1, reported.size());
+        } finally {
+            failure.close();
+            first.close();
+            second.close();
+        }
+    }
+
+    @Test
+    void sendsEventsFiredInReactionToReceivedEvents() throws IOException {
+        LoopbackTransport network = new LoopbackTransport();
+        LoopbackTransport peer = network.connect();
+        peer.open(frame -> { });
+        EventBridge bridge = new EventBridge("first", network, MANUAL);
+        Subscription reaction = EventBus.register(new Reacting());
+        try {
+            bridge.bridge(Ping.class, "test:ping", new PingCodec());
+            bridge.bridge(Pong.class, "test:pong", new PongCodec());
+
+            ByteArrayOutputStream payload = new ByteArrayOutputStream();
+            new PingCodec().write(new Ping(3, "remote"), new DataOutputStream(payload));
+            ByteArrayOutputStream body = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(body);
+            out.writeUTF("test:ping");
+            out.writeInt(payload.size());
+            payload.writeTo(out);
+            peer.send(frame(1, body.size(), body.toByteArray(), null));
+
+            // only the reaction is sent, the received ping is not sent back
+            assertEquals(1, bridge.received());
+            assertEquals(1, bridge.flush());
+            assertTrue(reported.isEmpty());
+        } finally {
+            reaction.close();
+            bridge.close();
+            peer.close();
+        }
+    }
+
+    @Test
+    void dropsFramesOfItsOwnNode() throws IOException {
+        LoopbackTransport network = new LoopbackTransport();
+        EventBridge sender = new EventBridge("same", network, MANUAL);
+        EventBridge twin = new EventBridge("same", network.connect(), MANUAL);
+        try {
+            sender.bridge(Ping.class, "test:ping", new PingCodec());
+            EventBus.fire(new Ping(1, "own"));
+            assertEquals(1, sender.flush());
+
+            assertEquals(0, twin.received());
+            assertEquals(1, listener.pings.size());
+        } finally {
+            sender.close();
+            twin.close();
+        }
+    }
+
+    @Test
+    void rejectsOversizedPayloads() throws IOException {
+        EventBridge bridge = new EventBridge("first", new LoopbackTransport(), MANUAL);
+        try {
+            bridge.bridge(Ping.class, "test:ping", new PingCodec());
+            EventBus.fire(new Ping(1, "x".repeat(60_000).repeat(20)));
+
+            assertEquals(0, bridge.flush());
+            assertEquals(1, reported.size());
+        } finally {
+            bridge.close();
+        }
+    }
+
+    @Test
+    void rejectsMalformedFramesBeforeAllocating() throws IOException {
+        LoopbackTransport network = new LoopbackTransport();
+        LoopbackTransport peer = network.connect();
+        peer.open(frame -> { });
+        EventBridge bridge = new EventBridge("first", network, MANUAL);
+        try {
+            bridge.bridge(Ping.class, "test:ping", new PingCodec());
+
+            peer.send(frame(1, Integer.MAX_VALUE, new byte[0], null));
+            peer.send(frame(-1, 16, new byte[16], null));
+            peer.send(frame(Integer.MAX_VALUE, 16, new byte[16], null));
+            peer.send(frame(1, 16, new byte[16], new byte[] {1, 2, 3}));
+            peer.send(frame(1, 64, new byte[16], null));
+
+            ByteArrayOutputStream body = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(body);
+            out.writeUTF("test:ping");
+            out.writeInt(Integer.MAX_VALUE);
+            peer.send(frame(1, body.size(), body.toByteArray(), null));
+
+            assertEquals(List.of(
+                    "Invalid bridge batch size 2147483647",
+                    "Invalid bridge event count -1",
+                    "Invalid bridge event count 2147483647",
+                    "Bridge frame requires a preset dictionary",
+                    "Truncated bridge frame",
+                    "Invalid bridge payload length 2147483647"
+            ), reported.stream().map(ex -> ex.getCause().getMessage()).toList());
+            assertEquals(0, bridge.received());
+            assertTrue(listener.pings.isEmpty());
+        } finally {
+            bridge.close();
+            peer.close();
+        }
+    }
+
+    /**
+     * Builds a frame with the given header values around a deflated body.
+     */
+    private static byte @NotNull [] frame(int count, int size, byte @NotNull [] body, byte @Nullable [] dictionary) throws IOException {
+        Deflater deflater = new Deflater();
+        if (dictionary != null) deflater.setDictionary(dictionary);
+        deflater.setInput(body);
+        deflater.finish();
+        byte[] buffer = new byte[body.length + 64];
+        int length = deflater.deflate(buffer);
+        deflater.end();
+
+        ByteArrayOutputStream frame = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(frame);
+        out.writeInt(MAGIC);
+        out.writeUTF("peer");
+        out.writeInt(count);
+        out.writeInt(size);
+        out.write(buffer, 0, length);
+        return frame.toByteArray();
+    }
+
+    record Ping(int value, String text) implements Event {
+
+        @Override
+        public Instant timestamp() {
+            return Instant.EPOCH;
+        }
+    }
+
+    record Pong(int value) implements Event {
+
+        @Override
+        public Instant timestamp() {
+            return Instant.EPOCH;
+        }
+    }
+
+    static final class PingCodec implements EventCodec<Ping> {
+
+        @Override
+        public void write(@NotNull Ping event, @NotNull DataOutput out) throws IOException {
+            out.writeInt(event.value());
+            out.writeInt(event.text().length());
+            out.writeChars(event.text());
+        }
+
+        @Override
+        public @NotNull Ping read(@NotNull DataInput in) throws IOException {
+            int value = in.readInt();
+            char[] text = new char[in.readInt()];
+            for (int i = 0; i < text.length; i++) text[i] = in.readChar();
+            return new Ping(value, new String(text));
+        }
+    }
+
+    static final class PongCodec implements EventCodec<Pong> {
+
+        @Override
+        public void write(@NotNull Pong event, @NotNull DataOutput out) throws IOException {
+            out.writeInt(event.value());
+        }
+
+        @Override
+        public @NotNull Pong read(@NotNull DataInput in) throws IOException {
+            return new Pong(in.readInt());
+        }
+    }
+
+    static final class Failing implements HandlerList {
+        private volatile boolean armed;
+
+        @Handler
+        public void on(Ping ping) {
+            if (armed) throw new IllegalStateException("failing handler");
+        }
+    }
+
+    static final class Reacting implements HandlerList {
+
+        @Handler
+        public void on(Ping ping) {
+            EventBus.fire(new Pong(ping.value()));
+        }
+    }
+
+    static final class Listener implements HandlerList {
+        private final List<Ping> pings = new CopyOnWriteArrayList<>();
+
+        @Handler
+        public void on(Ping ping) {
+            pings.add(ping);
+        }
+    }
+
+}
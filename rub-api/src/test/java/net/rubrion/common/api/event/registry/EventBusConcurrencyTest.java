@@ -0,0 +1,126 @@
+/**
+ * RPL-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the RPL-LICENSE. <br>
+ * License at: <a href="https://github.com/rubrionmc/.github/blob/main/licensens/RUBRION_PUBLIC">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <leycm@proton.me> <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package net.rubrion.common.api.event.registry;
+
+import net.rubrion.common.api.event.Event;
+import net.rubrion.common.api.event.handler.Handler;
+import net.rubrion.common.api.event.handler.HandlerList;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Stress test registering, closing and firing on the {@link EventBus} from many threads at once.
+ *
+ * @author LeyCM
+ * @since 1.1.2
+ */
+class EventBusConcurrencyTest {
+    private static final int FIRING_THREADS = 4;
+    private static final int FIRES = 20_000;
+    private static final int CHURNING_THREADS = 4;
+    private static final int CHURNS = 2_000;
+    private static final int STABLE = 8;
+
+    @Test
+    void concurrentRegisterCloseAndFireNeitherLosesNorDuplicatesHandlers() throws Exception {
+        List<Counter> stable = new ArrayList<>();
+        List<Subscription> subscriptions = new ArrayList<>();
+        for (int i = 0; i < STABLE; i++) {
+            Counter counter = new Counter();
+            stable.add(counter);
+            subscriptions.add(EventBus.register(counter));
+        }
+
+        Queue<Counter> churned = new ConcurrentLinkedQueue<>();
+        ExecutorService threads = Executors.newFixedThreadPool(FIRING_THREADS + CHURNING_THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> tasks = new ArrayList<>();
+
+        for (int t = 0; t < FIRING_THREADS; t++) tasks.add(threads.submit(() -> {
+            start.await();
+            for (int i = 0; i < FIRES; i++) EventBus.fire(new Ping(Instant.EPOCH));
+            return null;
+        }));
+        for (int t = 0; t < CHURNING_THREADS; t++) tasks.add(threads.submit(() -> {
+            start.await();
+            for (int i = 0; i < CHURNS; i++) {
+                Counter counter = new Counter();
+                churned.add(counter);
+                EventBus.register(counter).close();
+            }
+            return null;
+        }));
+
+        start.countDown();
+        try {
+            for (Future<?> task : tasks) task.get(60, TimeUnit.SECONDS);
+        } finally {
+            threads.shutdownNow();
+        }
+
+        long fired = (long) FIRING_THREADS * FIRES;
+        for (Counter counter : stable) assertEquals(fired, counter.calls(), "stable handler lost or duplicated a fire");
+        assertEquals(CHURNING_THREADS * CHURNS, churned.size());
+        for (Counter counter : churned) assertTrue(counter.calls() <= fired, "closed handler called more often than fired");
+
+        List<Long> before = churned.stream().map(Counter::calls).toList();
+        for (int i = 0; i < 10; i++) EventBus.fire(new Ping(Instant.EPOCH));
+        assertEquals(before, churned.stream().map(Counter::calls).toList(), "closed handler still registered");
+        for (Counter counter : stable) assertEquals(fired + 10, counter.calls());
+        assertEquals(STABLE, EventBus.resolve(Ping.class).snapshot().handlers().length);
+
+        subscriptions.forEach(Subscription::close);
+        assertTrue(EventBus.resolve(Ping.class).isEmpty());
+    }
+
+    @Test
+    void closingFromSeveralThreadsRemovesTheHandlers() throws Exception {
+        Counter counter = new Counter();
+        Subscription subscription = EventBus.register(counter);
+
+        ExecutorService threads = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> tasks = new ArrayList<>();
+            for (int t = 0; t < 4; t++) tasks.add(threads.submit(subscription::close));
+            for (Future<?> task : tasks) task.get(10, TimeUnit.SECONDS);
+        } finally {
+            threads.shutdownNow();
+        }
+
+        assertFalse(subscription.isActive());
+        EventBus.fire(new Ping(Instant.EPOCH));
+        assertEquals(0, counter.calls());
+    }
+
+    record Ping(Instant timestamp) implements Event { }
+
+    static final class Counter implements HandlerList {
+        private final LongAdder calls = new LongAdder();
+
+        @Handler
+        public void on(Ping ping) {
+            calls.increment();
+        }
+
+        long calls() {
+            return calls.sum();
+        }
+    }
+
+}
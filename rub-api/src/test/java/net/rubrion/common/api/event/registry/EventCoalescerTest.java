@@ -0,0 +1,163 @@
+/**
+ * RPL-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the RPL-LICENSE. <br>
+ * License at: <a href="https://github.com/rubrionmc/.github/blob/main/licensens/RUBRION_PUBLIC">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <leycm@proton.me> <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package net.rubrion.common.api.event.registry;
+
+import net.rubrion.common.api.event.Event;
+import net.rubrion.common.api.event.able.Coalescable;
+import net.rubrion.common.api.event.handler.Handler;
+import net.rubrion.common.api.event.handler.HandlerList;
+import net.rubrion.common.api.id.Identifier;
+import net.rubrion.common.api.id.NamespacedId;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests that an {@link EventCoalescer} fires one merged event per class and key.
+ *
+ * @author LeyCM
+ * @since 1.1.2
+ */
+class EventCoalescerTest {
+    private static final NamespacedId FIRST = new NamespacedId("test:first");
+    private static final NamespacedId SECOND = new NamespacedId("test:second");
+
+    private final Listener listener = new Listener();
+    private Subscription subscription;
+
+    @BeforeEach
+    void register() {
+        subscription = EventBus.register(listener);
+    }
+
+    @AfterEach
+    void close() {
+        subscription.close();
+    }
+
+    @Test
+    void firesOnlyTheLatestStatePerKey() {
+        EventCoalescer coalescer = new EventCoalescer();
+        for (int i = 1; i <= 3; i++) coalescer.submit(new Moved(FIRST, i));
+        coalescer.submit(new Moved(SECOND, 7));
+
+        assertEquals(2, coalescer.size());
+        assertEquals(2, coalescer.flush());
+        assertEquals(0, coalescer.flush());
+        assertEquals(2, coalescer.coalesced());
+
+        assertEquals(2, listener.moved.size());
+        assertTrue(listener.moved.contains(new Moved(FIRST, 3)));
+        assertTrue(listener.moved.contains(new Moved(SECOND, 7)));
+    }
+
+    @Test
+    void mergesWithThePendingEvent() {
+        EventCoalescer coalescer = new EventCoalescer();
+        coalescer.submit(new Damaged(FIRST, 2));
+        coalescer.submit(new Damaged(FIRST, 3));
+        coalescer.submit(new Moved(FIRST, 1));
+        coalescer.flush();
+
+        assertEquals(List.of(new Damaged(FIRST, 5)), listener.damaged);
+        assertEquals(List.of(new Moved(FIRST, 1)), listener.moved);
+    }
+
+    @Test
+    void closeFiresPendingEventsAndRejectsNewOnes() {
+        EventCoalescer coalescer = new EventCoalescer();
+        coalescer.submit(new Moved(FIRST, 1));
+        coalescer.close();
+
+        assertFalse(coalescer.submit(new Moved(FIRST, 2)));
+        assertEquals(List.of(new Moved(FIRST, 1)), listener.moved);
+    }
+
+    @Test
+    void everyAcceptedEventIsFiredWhenClosingConcurrently() throws InterruptedException {
+        EventCoalescer coalescer = new EventCoalescer();
+        AtomicInteger accepted = new AtomicInteger();
+        Thread[] submitters = new Thread[4];
+        for (int t = 0; t < submitters.length; t++) {
+            int thread = t;
+            submitters[t] = new Thread(() -> {
+                for (int i = 0; coalescer.submit(new Moved(new NamespacedId("test:" + thread + "_" + i), i)); i++)
+                    accepted.incrementAndGet();
+            });
+            submitters[t].start();
+        }
+
+        Thread.sleep(20);
+        coalescer.close();
+        for (Thread submitter : submitters) submitter.join(10_000);
+
+        assertEquals(accepted.get(), listener.moved.size());
+    }
+
+    @Test
+    void windowFlushesOnItsOwnThread() throws InterruptedException {
+        try (EventCoalescer coalescer = new EventCoalescer(Duration.ofMillis(5))) {
+            coalescer.submit(new Moved(FIRST, 1));
+            assertTrue(listener.flushed.await(10, TimeUnit.SECONDS));
+        }
+        assertEquals(List.of(new Moved(FIRST, 1)), listener.moved);
+    }
+
+    record Moved(Identifier<?> key, int position) implements Event, Coalescable<Moved> {
+
+        @Override
+        public Instant timestamp() {
+            return Instant.EPOCH;
+        }
+    }
+
+    record Damaged(Identifier<?> key, int amount) implements Event, Coalescable<Damaged> {
+
+        @Override
+        public @NotNull Damaged coalesce(@NotNull Damaged previous) {
+            return new Damaged(key, previous.amount + amount);
+        }
+
+        @Override
+        public Instant timestamp() {
+            return Instant.EPOCH;
+        }
+    }
+
+    static final class Listener implements HandlerList {
+        private final List<Moved> moved = new CopyOnWriteArrayList<>();
+        private final List<Damaged> damaged = new CopyOnWriteArrayList<>();
+        private final CountDownLatch flushed = new CountDownLatch(1);
+
+        @Handler
+        public void on(Moved event) {
+            moved.add(event);
+            flushed.countDown();
+        }
+
+        @Handler
+        public void on(Damaged event) {
+            damaged.add(event);
+        }
+    }
+
+}
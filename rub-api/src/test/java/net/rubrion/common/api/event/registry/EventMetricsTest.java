@@ -0,0 +1,109 @@
+/**
+ * RPL-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the RPL-LICENSE. <br>
+ * License at: <a href="https://github.com/rubrionmc/.github/blob/main/licensens/RUBRION_PUBLIC">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <leycm@proton.me> <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package net.rubrion.common.api.event.registry;
+
+import net.rubrion.common.api.event.Event;
+import net.rubrion.common.api.event.handler.Handler;
+import net.rubrion.common.api.event.handler.HandlerList;
+import net.rubrion.common.api.event.handler.HandlerPriority;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests that {@link EventMetrics} count handler calls and forget unregistered handlers.
+ *
+ * @author LeyCM
+ * @since 1.1.2
+ */
+class EventMetricsTest {
+    private final EventMetrics metrics = new EventMetrics(1);
+
+    @BeforeEach
+    void install() {
+        EventBus.metrics(metrics);
+    }
+
+    @AfterEach
+    void uninstall() {
+        EventBus.metrics(null);
+    }
+
+    @Test
+    void countsEveryCall() {
+        Subscription subscription = EventBus.register(new Listener());
+        try {
+            for (int i = 0; i < 3; i++) EventBus.fire(new Ping(Instant.EPOCH));
+
+            HandlerStats stats = stats();
+            assertEquals(3, stats.invocations());
+            assertEquals(3, stats.sampled());
+            assertEquals(Listener.class, stats.owner());
+            assertEquals("on", stats.method());
+        } finally {
+            subscription.close();
+        }
+    }
+
+    @Test
+    void forgetsHandlersOfClosedSubscriptions() {
+        Subscription subscription = EventBus.register(new Listener());
+        EventBus.fire(new Ping(Instant.EPOCH));
+        assertEquals(1, stats().invocations());
+
+        subscription.close();
+        assertTrue(pings().isEmpty());
+
+        Subscription renewed = EventBus.register(new Listener());
+        try {
+            EventBus.fire(new Ping(Instant.EPOCH));
+            assertEquals(1, stats().invocations());
+        } finally {
+            renewed.close();
+        }
+    }
+
+    @Test
+    void statsCompareTheHistogramByContent() {
+        long[] histogram = {1, 2};
+        HandlerStats stats = new HandlerStats(Ping.class, Listener.class, "on", HandlerPriority.NORMAL, 3, 3, 9, histogram);
+        histogram[0] = 5;
+        stats.histogram()[1] = 7;
+
+        assertArrayEquals(new long[] {1, 2}, stats.histogram());
+        assertEquals(new HandlerStats(Ping.class, Listener.class, "on", HandlerPriority.NORMAL, 3, 3, 9, new long[] {1, 2}), stats);
+        assertEquals(new HandlerStats(Ping.class, Listener.class, "on", HandlerPriority.NORMAL, 3, 3, 9, new long[] {1, 2}).hashCode(), stats.hashCode());
+    }
+
+    private HandlerStats stats() {
+        List<HandlerStats> stats = pings();
+        assertEquals(1, stats.size());
+        return stats.get(0);
+    }
+
+    private List<HandlerStats> pings() {
+        return metrics.snapshot().stream().filter(stats -> stats.eventType() == Ping.class).toList();
+    }
+
+    record Ping(Instant timestamp) implements Event { }
+
+    static final class Listener implements HandlerList {
+
+        @Handler
+        public void on(Ping ping) { }
+    }
+
+}
@@ -0,0 +1,124 @@
+/**
+ * RPL-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the RPL-LICENSE. <br>
+ * License at: <a href="https://github.com/rubrionmc/.github/blob/main/licensens/RUBRION_PUBLIC">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <leycm@proton.me> <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package net.rubrion.common.api.event.registry;
+
+import net.rubrion.common.api.event.Event;
+import net.rubrion.common.api.event.handler.Handler;
+import net.rubrion.common.api.event.handler.HandlerList;
+import net.rubrion.common.api.event.handler.HandlerPriority;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests that every event published to an {@link EventPipeline} is fired, even when a handler fails.
+ *
+ * @author LeyCM
+ * @since 1.1.2
+ */
+class EventPipelineTest {
+    private static final int PRODUCERS = 4;
+    private static final int EVENTS = 50_000;
+
+    @Test
+    void parkingConsumerFiresEveryPublishedEvent() throws Exception {
+        Counter counter = new Counter();
+        Subscription subscription = EventBus.register(counter);
+        ExecutorService producers = Executors.newFixedThreadPool(PRODUCERS);
+
+        try (EventPipeline pipeline = new EventPipeline(1024, EventPipeline.WaitStrategy.PARK)) {
+            List<Future<?>> tasks = new ArrayList<>();
+            for (int p = 0; p < PRODUCERS; p++) tasks.add(producers.submit(() -> {
+                for (int i = 0; i < EVENTS; i++) {
+                    assertTrue(pipeline.publish(new Tick(Instant.EPOCH)));
+                    // let the consumer drain and park between bursts
+                    if (i % 1_000 == 0) LockSupport.parkNanos(50_000);
+                }
+                return null;
+            }));
+            for (Future<?> task : tasks) task.get(60, TimeUnit.SECONDS);
+        } finally {
+            producers.shutdownNow();
+            subscription.close();
+        }
+
+        assertEquals((long) PRODUCERS * EVENTS, counter.calls.sum());
+    }
+
+    @Test
+    void failingHandlerDoesNotDropTheRestOfTheBatch() throws InterruptedException {
+        Poisoned poisoned = new Poisoned();
+        Subscription subscription = EventBus.register(poisoned);
+
+        try (EventPipeline pipeline = new EventPipeline(16, EventPipeline.WaitStrategy.PARK)) {
+            // hold the consumer so the following events are drained as one batch
+            assertTrue(pipeline.publish(new Gate(Instant.EPOCH)));
+            assertTrue(poisoned.entered.await(10, TimeUnit.SECONDS));
+            for (int i = 0; i < 5; i++) assertTrue(pipeline.publish(new Dose(i)));
+            poisoned.release.countDown();
+        } finally {
+            subscription.close();
+        }
+
+        assertEquals(List.of(0, 1, 3, 4), poisoned.survived);
+    }
+
+    record Tick(Instant timestamp) implements Event { }
+
+    record Gate(Instant timestamp) implements Event { }
+
+    record Dose(int value) implements Event {
+
+        @Override
+        public Instant timestamp() {
+            return Instant.EPOCH;
+        }
+    }
+
+    static final class Poisoned implements HandlerList {
+        private final CountDownLatch entered = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final List<Integer> survived = new CopyOnWriteArrayList<>();
+
+        @Handler
+        public void on(Gate gate) throws InterruptedException {
+            entered.countDown();
+            release.await();
+        }
+
+        @Handler
+        public void failing(Dose dose) {
+            if (dose.value() == 2) throw new IllegalStateException("poisoned dose");
+        }
+
+        @Handler(level = HandlerPriority.LATE)
+        public void survived(Dose dose) {
+            survived.add(dose.value());
+        }
+    }
+
+    static final class Counter implements HandlerList {
+        private final LongAdder calls = new LongAdder();
+
+        @Handler
+        public void on(Tick tick) {
+            calls.increment();
+        }
+    }
+
+}
@@ -0,0 +1,98 @@
+/**
+ * RPL-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the RPL-LICENSE. <br>
+ * License at: <a href="https://github.com/rubrionmc/.github/blob/main/licensens/RUBRION_PUBLIC">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <leycm@proton.me> <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package net.rubrion.common.api.event.registry;
+
+import net.rubrion.common.api.event.Event;
+import net.rubrion.common.api.event.able.Poolable;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests recycling instances through an {@link EventPool}.
+ *
+ * @author LeyCM
+ * @since 1.1.2
+ */
+class EventPoolTest {
+
+    @Test
+    void reusesReleasedInstances() {
+        EventPool<Pooled> pool = new EventPool<>(Pooled::new, 4);
+        Pooled first = pool.acquire();
+        first.value = 3;
+        pool.release(first);
+
+        Pooled second = pool.acquire();
+        assertSame(first, second);
+        assertEquals(0, second.value);
+        assertEquals(1, pool.created());
+    }
+
+    @Test
+    void dropsRetainedInstances() {
+        EventPool<Pooled> pool = new EventPool<>(Pooled::new, 4);
+        Pooled retained = pool.acquire();
+        retained.retain();
+        pool.release(retained);
+
+        assertNotSame(retained, pool.acquire());
+        assertEquals(2, pool.created());
+    }
+
+    @Test
+    void virtualThreadsShareInstancesThroughTheQueue() throws InterruptedException {
+        EventPool<Pooled> pool = new EventPool<>(Pooled::new, 4);
+        for (int i = 0; i < 100; i++) Thread.ofVirtual().start(() -> pool.release(pool.acquire())).join();
+
+        assertEquals(1, pool.created());
+    }
+
+    @Test
+    void batchedFiresReturnEventsToTheirPool() {
+        EventPool<Pooled> pool = EventBus.pool(Pooled.class, Pooled::new);
+        long created = pool.created();
+        List<Pooled> events = List.of(pool.acquire(), pool.acquire(), pool.acquire());
+        EventBus.fireAll(events);
+
+        for (int i = 0; i < events.size(); i++) assertTrue(events.contains(pool.acquire()));
+        assertEquals(created + 3, pool.created());
+    }
+
+    static final class Pooled implements Event, Poolable {
+        private int value;
+        private boolean retained;
+
+        @Override
+        public Instant timestamp() {
+            return Instant.EPOCH;
+        }
+
+        @Override
+        public void reset() {
+            value = 0;
+        }
+
+        @Override
+        public void retain() {
+            retained = true;
+        }
+
+        @Override
+        public boolean isRetained() {
+            return retained;
+        }
+    }
+
+}
@@ -0,0 +1,103 @@
+/**
+ * RPL-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the RPL-LICENSE. <br>
+ * License at: <a href="https://github.com/rubrionmc/.github/blob/main/licensens/RUBRION_PUBLIC">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <leycm@proton.me> <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package net.rubrion.common.api.event.registry;
+
+import net.rubrion.common.api.event.Event;
+import net.rubrion.common.api.event.handler.Handler;
+import net.rubrion.common.api.event.handler.HandlerList;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests that resolved executors are only rebuilt when their type hierarchy changes.
+ *
+ * @author LeyCM
+ * @since 1.1.2
+ */
+class ExecutorRegistryTest {
+
+    @AfterEach
+    void uninstall() {
+        EventBus.compiled(Hot.class, false);
+        EventBus.metrics(null);
+    }
+
+    @Test
+    void unrelatedChangesKeepTheCompiledExecutor() {
+        HotListener listener = new HotListener();
+        EventBus.compiled(Hot.class, true);
+        Subscription subscription = EventBus.register(listener);
+        try {
+            EventBus.fire(new Hot(Instant.EPOCH));
+            EventExecutor resolved = EventBus.resolve(Hot.class);
+
+            for (int i = 0; i < 3; i++) EventBus.register(new ColdListener()).close();
+            EventBus.fire(new Hot(Instant.EPOCH));
+
+            assertSame(resolved, EventBus.resolve(Hot.class));
+            assertEquals(2, listener.calls.get());
+        } finally {
+            subscription.close();
+        }
+    }
+
+    @Test
+    void changesOfTheHierarchyRebuildTheExecutor() {
+        Subscription subscription = EventBus.register(new HotListener());
+        try {
+            EventExecutor resolved = EventBus.resolve(Hot.class);
+
+            Subscription general = EventBus.register(new GeneralListener());
+            assertNotSame(resolved, EventBus.resolve(Hot.class));
+            resolved = EventBus.resolve(Hot.class);
+
+            general.close();
+            assertNotSame(resolved, EventBus.resolve(Hot.class));
+            resolved = EventBus.resolve(Hot.class);
+
+            EventBus.metrics(new EventMetrics(1));
+            assertNotSame(resolved, EventBus.resolve(Hot.class));
+        } finally {
+            subscription.close();
+        }
+    }
+
+    record Hot(Instant timestamp) implements Event { }
+
+    record Cold(Instant timestamp) implements Event { }
+
+    static final class HotListener implements HandlerList {
+        private final AtomicInteger calls = new AtomicInteger();
+
+        @Handler
+        public void on(Hot hot) {
+            calls.incrementAndGet();
+        }
+    }
+
+    static final class ColdListener implements HandlerList {
+
+        @Handler
+        public void on(Cold cold) { }
+    }
+
+    static final class GeneralListener implements HandlerList {
+
+        @Handler
+        public void on(Event event) { }
+    }
+
+}
@@ -0,0 +1,94 @@
+/**
+ * RPL-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the RPL-LICENSE. <br>
+ * License at: <a href="https://github.com/rubrionmc/.github/blob/main/licensens/RUBRION_PUBLIC">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <leycm@proton.me> <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package net.rubrion.common.api.event.registry;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import net.rubrion.common.api.event.Event;
+import net.rubrion.common.api.event.handler.Handler;
+import net.rubrion.common.api.event.handler.HandlerList;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests recording handler calls while metrics and a watchdog decorate the same handlers.
+ *
+ * @author LeyCM
+ * @since 1.1.2
+ */
+class FlightRecordingTest {
+
+    @AfterEach
+    void uninstall() {
+        EventBus.metrics(null);
+        EventBus.watchdog(null);
+    }
+
+    @Test
+    void recordingKeepsOneMetricsEntryAcrossResolutions(@TempDir Path directory) throws IOException {
+        EventMetrics metrics = new EventMetrics(1);
+        EventBus.metrics(metrics);
+        EventBus.watchdog(new HandlerWatchdog(Duration.ofHours(1), 3, HandlerWatchdog.Action.CIRCUIT_BREAK, Duration.ofHours(1)));
+        Subscription subscription = EventBus.register(new Listener());
+
+        Path dump = directory.resolve("handlers.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("net.rubrion.event.Handler").withThreshold(Duration.ZERO);
+            recording.start();
+
+            for (int i = 0; i < 3; i++) {
+                EventBus.fire(new Ping(Instant.EPOCH));
+                EventBus.register(new Unrelated()).close();
+            }
+
+            recording.stop();
+            recording.dump(dump);
+
+            List<HandlerStats> stats = metrics.snapshot().stream().filter(entry -> entry.eventType() == Ping.class).toList();
+            assertEquals(1, stats.size());
+            assertEquals(3, stats.get(0).invocations());
+        } finally {
+            subscription.close();
+        }
+
+        List<RecordedEvent> records = RecordingFile.readAllEvents(dump).stream()
+                .filter(event -> event.getEventType().getName().equals("net.rubrion.event.Handler"))
+                .filter(event -> event.getClass("owner").getName().equals(Listener.class.getName()))
+                .toList();
+        assertEquals(3, records.size());
+        assertEquals("on", records.get(0).getString("method"));
+    }
+
+    record Ping(Instant timestamp) implements Event { }
+
+    static final class Listener implements HandlerList {
+
+        @Handler
+        public void on(Ping ping) { }
+    }
+
+    static final class Unrelated implements HandlerList {
+
+        @Handler
+        public void on(Event event) { }
+    }
+
+}
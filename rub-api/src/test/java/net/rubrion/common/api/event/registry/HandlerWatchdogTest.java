@@ -0,0 +1,172 @@
+/**
+ * RPL-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the RPL-LICENSE. <br>
+ * License at: <a href="https://github.com/rubrionmc/.github/blob/main/licensens/RUBRION_PUBLIC">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <leycm@proton.me> <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package net.rubrion.common.api.event.registry;
+
+import net.rubrion.common.api.event.Event;
+import net.rubrion.common.api.event.able.Monitorable;
+import net.rubrion.common.api.event.handler.Handler;
+import net.rubrion.common.api.event.handler.HandlerList;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests tripping failing handlers with a {@link HandlerWatchdog}.
+ *
+ * @author LeyCM
+ * @since 1.1.2
+ */
+class HandlerWatchdogTest {
+    private final List<Throwable> reported = new CopyOnWriteArrayList<>();
+    private Thread.UncaughtExceptionHandler previous;
+
+    @BeforeEach
+    void collectReports() {
+        previous = Thread.currentThread().getUncaughtExceptionHandler();
+        Thread.currentThread().setUncaughtExceptionHandler((thread, ex) -> reported.add(ex));
+    }
+
+    @AfterEach
+    void uninstall() {
+        EventBus.watchdog(null);
+        Thread.currentThread().setUncaughtExceptionHandler(previous);
+    }
+
+    @Test
+    void tripsAfterStrikesInARowAndSkipsDuringCooldown() {
+        HandlerWatchdog watchdog = install(HandlerWatchdog.Action.CIRCUIT_BREAK);
+        Listener listener = new Listener();
+
+        try (Subscription subscription = EventBus.register(listener)) {
+            for (int i = 0; i < 5; i++) EventBus.fire(new Ping(Instant.EPOCH));
+            EventBus.register(new Unrelated()).close();
+            EventBus.fire(new Ping(Instant.EPOCH));
+
+            assertTrue(subscription.isActive());
+            assertEquals(2, listener.failing.get());
+            assertEquals(6, listener.healthy.get());
+            assertEquals(1, watchdog.trips());
+            assertEquals(2, watchdog.failures());
+            assertEquals(1, watchdog.tripped());
+            assertEquals(2, reported.size());
+        }
+    }
+
+    @Test
+    void forgetsHandlersOfClosedSubscriptions() {
+        HandlerWatchdog watchdog = install(HandlerWatchdog.Action.CIRCUIT_BREAK);
+        Subscription subscription = EventBus.register(new Listener());
+        for (int i = 0; i < 2; i++) EventBus.fire(new Ping(Instant.EPOCH));
+        assertEquals(1, watchdog.tripped());
+
+        subscription.close();
+        assertEquals(0, watchdog.tripped());
+    }
+
+    @Test
+    void quarantinesCopiesOfMonitorableEvents() throws InterruptedException {
+        install(HandlerWatchdog.Action.QUARANTINE);
+        Listener listener = new Listener();
+
+        Subscription subscription = EventBus.register(listener);
+        try {
+            Tracked original = new Tracked(false);
+            for (int i = 0; i < 2; i++) EventBus.fire(new Tracked(false));
+            EventBus.fire(original);
+
+            assertTrue(listener.quarantined.await(10, TimeUnit.SECONDS));
+            assertEquals(1, listener.copies.size());
+            assertNotSame(original, listener.copies.get(0));
+            assertTrue(listener.copies.get(0).copied);
+            assertNotSame(Thread.currentThread(), listener.quarantineThread);
+        } finally {
+            subscription.close();
+        }
+    }
+
+    @Test
+    void quarantineSkipsEventsThatCannotBeCopied() {
+        install(HandlerWatchdog.Action.QUARANTINE);
+        Listener listener = new Listener();
+
+        Subscription subscription = EventBus.register(listener);
+        for (int i = 0; i < 4; i++) EventBus.fire(new Ping(Instant.EPOCH));
+        subscription.close();
+
+        assertEquals(2, listener.failing.get());
+        assertEquals(4, listener.healthy.get());
+    }
+
+    private static HandlerWatchdog install(HandlerWatchdog.Action action) {
+        HandlerWatchdog watchdog = new HandlerWatchdog(Duration.ofHours(1), 2, action, Duration.ofHours(1));
+        EventBus.watchdog(watchdog);
+        return watchdog;
+    }
+
+    record Ping(Instant timestamp) implements Event { }
+
+    record Tracked(boolean copied) implements Event, Monitorable<Tracked> {
+
+        @Override
+        public Instant timestamp() {
+            return Instant.EPOCH;
+        }
+
+        @Override
+        public Tracked copy() {
+            return new Tracked(true);
+        }
+    }
+
+    static final class Listener implements HandlerList {
+        private final AtomicInteger failing = new AtomicInteger();
+        private final AtomicInteger healthy = new AtomicInteger();
+        private final List<Tracked> copies = new CopyOnWriteArrayList<>();
+        private final CountDownLatch quarantined = new CountDownLatch(1);
+        private volatile Thread quarantineThread;
+
+        @Handler
+        public void failing(Ping ping) {
+            failing.incrementAndGet();
+            throw new IllegalStateException("failing handler");
+        }
+
+        @Handler
+        public void healthy(Ping ping) {
+            healthy.incrementAndGet();
+        }
+
+        @Handler
+        public void failing(Tracked tracked) {
+            if (!tracked.copied) throw new IllegalStateException("failing handler");
+            copies.add(tracked);
+            quarantineThread = Thread.currentThread();
+            quarantined.countDown();
+        }
+    }
+
+    static final class Unrelated implements HandlerList {
+
+        @Handler
+        public void on(Tracked tracked) { }
+    }
+
+}
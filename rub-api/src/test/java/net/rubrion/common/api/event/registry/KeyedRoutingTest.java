@@ -0,0 +1,130 @@
+/**
+ * RPL-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the RPL-LICENSE. <br>
+ * License at: <a href="https://github.com/rubrionmc/.github/blob/main/licensens/RUBRION_PUBLIC">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <leycm@proton.me> <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package net.rubrion.common.api.event.registry;
+
+import net.rubrion.common.api.event.Event;
+import net.rubrion.common.api.event.able.Keyed;
+import net.rubrion.common.api.event.handler.Handler;
+import net.rubrion.common.api.event.handler.HandlerInfo;
+import net.rubrion.common.api.event.handler.HandlerList;
+import net.rubrion.common.api.event.handler.HandlerPriority;
+import net.rubrion.common.api.id.Identifier;
+import net.rubrion.common.api.id.NamespacedId;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests routing {@link Keyed} events to the handlers of their key.
+ *
+ * @author LeyCM
+ * @since 1.1.2
+ */
+class KeyedRoutingTest {
+    private static final NamespacedId RED = new NamespacedId("test:red");
+    private static final NamespacedId BLUE = new NamespacedId("test:blue");
+    private static final HandlerInfo INFO = new HandlerInfo(Join.class, HandlerPriority.NORMAL);
+
+    @Test
+    void keyedHandlersOnlyReceiveTheirKey() {
+        Counter all = new Counter();
+        Counter red = new Counter();
+        Counter blue = new Counter();
+
+        List<Subscription> subscriptions = List.of(EventBus.register(all), EventBus.register(red, RED), EventBus.register(blue, BLUE));
+        try {
+            EventBus.fire(new Join(RED));
+            EventBus.fire(new Join(RED));
+            EventBus.fire(new Join(BLUE));
+            EventBus.fire(new Join(new NamespacedId("test:green")));
+            EventBus.fireAll(List.of(new Join(RED), new Join(BLUE)));
+        } finally {
+            subscriptions.forEach(Subscription::close);
+        }
+
+        assertEquals(6, all.calls.get());
+        assertEquals(3, red.calls.get());
+        assertEquals(2, blue.calls.get());
+    }
+
+    @Test
+    void closingOneKeyKeepsTheOthers() {
+        Counter red = new Counter();
+        Counter blue = new Counter();
+        Subscription redSubscription = EventBus.register(red, RED);
+
+        Subscription blueSubscription = EventBus.register(blue, BLUE);
+        try {
+            assertEquals(RED, redSubscription.key());
+            redSubscription.close();
+
+            EventBus.fire(new Join(RED));
+            EventBus.fire(new Join(BLUE));
+        } finally {
+            blueSubscription.close();
+        }
+
+        assertEquals(0, red.calls.get());
+        assertEquals(1, blue.calls.get());
+    }
+
+    @Test
+    void changingOneKeyLeavesTheRoutesOfOtherKeys() {
+        EventExecutor executor = new EventExecutor();
+        Consumer<Event> red = event -> { };
+        Consumer<Event> blue = event -> { };
+        executor.register(INFO, red, RED);
+        executor.register(INFO, blue, BLUE);
+
+        HandlerSnapshot snapshot = executor.snapshot();
+        HandlerSnapshot blueRoute = snapshot.route(BLUE);
+        executor.register(INFO, event -> { }, RED);
+        executor.unregisterAll(List.of(red), RED);
+
+        assertSame(snapshot, executor.snapshot());
+        assertSame(blueRoute, executor.snapshot().route(BLUE));
+        assertEquals(1, executor.snapshot().route(RED).handlers().length);
+    }
+
+    @Test
+    void unregisterFindsKeyedHandlers() {
+        EventExecutor executor = new EventExecutor();
+        Consumer<Event> red = event -> { };
+        executor.register(INFO, red, RED);
+
+        assertTrue(executor.unregister(red));
+        assertFalse(executor.unregister(red));
+        assertTrue(executor.isEmpty());
+    }
+
+    record Join(Identifier<?> key, Instant timestamp) implements Event, Keyed {
+
+        Join(@NotNull Identifier<?> key) {
+            this(key, Instant.EPOCH);
+        }
+    }
+
+    static final class Counter implements HandlerList {
+        private final AtomicInteger calls = new AtomicInteger();
+
+        @Handler
+        public void on(Join join) {
+            calls.incrementAndGet();
+        }
+    }
+
+}
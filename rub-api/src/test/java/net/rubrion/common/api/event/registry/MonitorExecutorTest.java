@@ -0,0 +1,91 @@
+/**
+ * RPL-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the RPL-LICENSE. <br>
+ * License at: <a href="https://github.com/rubrionmc/.github/blob/main/licensens/RUBRION_PUBLIC">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <leycm@proton.me> <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package net.rubrion.common.api.event.registry;
+
+import net.rubrion.common.api.event.Event;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the overflow policies of a {@link MonitorExecutor}.
+ *
+ * @author LeyCM
+ * @since 1.1.2
+ */
+class MonitorExecutorTest {
+
+    @Test
+    void blockedSubmitIsRunOrDroppedWhenClosed() throws InterruptedException {
+        MonitorExecutor executor = new MonitorExecutor(1, 1, MonitorExecutor.Overflow.BLOCK);
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger ran = new AtomicInteger();
+        Consumer<Event>[] blocking = handlers(event -> {
+            entered.countDown();
+            try { release.await(); }
+            catch (InterruptedException ex) { Thread.currentThread().interrupt(); }
+        });
+        Consumer<Event>[] counting = handlers(event -> ran.incrementAndGet());
+
+        executor.submit(new Ping(Instant.EPOCH), blocking, 0);
+        assertTrue(entered.await(10, TimeUnit.SECONDS));
+        executor.submit(new Ping(Instant.EPOCH), counting, 0);
+
+        Thread firing = new Thread(() -> executor.submit(new Ping(Instant.EPOCH), counting, 0));
+        firing.start();
+        while (firing.getState() != Thread.State.TIMED_WAITING && firing.isAlive()) Thread.onSpinWait();
+
+        executor.close();
+        release.countDown();
+        firing.join(10_000);
+        assertFalse(firing.isAlive());
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (ran.get() + executor.dropped() < 2 && System.nanoTime() < deadline) Thread.sleep(5);
+        Thread.sleep(50);
+
+        assertEquals(2, ran.get() + executor.dropped());
+        assertEquals(0, executor.queued());
+    }
+
+    @Test
+    void dropCountsRejectedEvents() throws InterruptedException {
+        MonitorExecutor executor = new MonitorExecutor(1, 1, MonitorExecutor.Overflow.DROP);
+        CountDownLatch release = new CountDownLatch(1);
+        Consumer<Event>[] blocking = handlers(event -> {
+            try { release.await(); }
+            catch (InterruptedException ex) { Thread.currentThread().interrupt(); }
+        });
+
+        try {
+            for (int i = 0; i < 4; i++) executor.submit(new Ping(Instant.EPOCH), blocking, 0);
+            assertTrue(executor.dropped() >= 2);
+        } finally {
+            release.countDown();
+            executor.close();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Consumer<Event>[] handlers(Consumer<Event> handler) {
+        return (Consumer<Event>[]) new Consumer<?>[] {handler};
+    }
+
+    record Ping(Instant timestamp) implements Event { }
+
+}
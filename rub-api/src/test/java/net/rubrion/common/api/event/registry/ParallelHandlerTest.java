@@ -0,0 +1,160 @@
+/**
+ * RPL-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the RPL-LICENSE. <br>
+ * License at: <a href="https://github.com/rubrionmc/.github/blob/main/licensens/RUBRION_PUBLIC">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <leycm@proton.me> <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package net.rubrion.common.api.event.registry;
+
+import net.rubrion.common.api.event.Event;
+import net.rubrion.common.api.event.handler.Handler;
+import net.rubrion.common.api.event.handler.HandlerList;
+import net.rubrion.common.api.event.handler.HandlerPriority;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests forking {@link Handler#parallel()} handlers of a level and joining them before the
+ * next level starts.
+ *
+ * @author LeyCM
+ * @since 1.1.2
+ */
+class ParallelHandlerTest {
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+
+    @BeforeEach
+    void install() {
+        EventBus.parallelPool(pool);
+    }
+
+    @AfterEach
+    void uninstall() {
+        EventBus.parallelPool(ForkJoinPool.commonPool());
+        pool.shutdownNow();
+    }
+
+    @Test
+    void levelIsJoinedBeforeTheNextLevelStarts() {
+        Joining listener = new Joining();
+        Subscription subscription = EventBus.register(listener);
+        try {
+            EventBus.fire(new Ping(Instant.EPOCH));
+            EventBus.fire(new Ping(Instant.EPOCH));
+        } finally {
+            subscription.close();
+        }
+
+        assertEquals(List.of(3, 6), listener.seen);
+    }
+
+    @Test
+    void firstFailureIsThrownWithTheOthersSuppressed() {
+        Failing listener = new Failing();
+        Subscription subscription = EventBus.register(listener);
+        try {
+            RuntimeException thrown = assertThrows(RuntimeException.class, () -> EventBus.fire(new Ping(Instant.EPOCH)));
+
+            Set<String> messages = Stream.concat(Stream.of(thrown), Arrays.stream(thrown.getSuppressed()))
+                    .map(ParallelHandlerTest::message)
+                    .collect(Collectors.toSet());
+            assertEquals(Set.of("first", "second", "third"), messages);
+            assertEquals(0, listener.late.get());
+        } finally {
+            subscription.close();
+        }
+    }
+
+    /**
+     * Returns the message of the exception a handler threw, unwrapping the wrappers of the
+     * invoker and of the joined tasks.
+     */
+    private static String message(Throwable failure) {
+        while (failure.getCause() != null) failure = failure.getCause();
+        return failure.getMessage();
+    }
+
+    record Ping(Instant timestamp) implements Event { }
+
+    static final class Joining implements HandlerList {
+        private final AtomicInteger done = new AtomicInteger();
+        private final List<Integer> seen = new CopyOnWriteArrayList<>();
+        private volatile CountDownLatch started = new CountDownLatch(3);
+
+        @Handler(level = HandlerPriority.EARLY, parallel = true)
+        public void first(Ping ping) throws InterruptedException {
+            run();
+        }
+
+        @Handler(level = HandlerPriority.EARLY, parallel = true)
+        public void second(Ping ping) throws InterruptedException {
+            run();
+        }
+
+        @Handler(level = HandlerPriority.EARLY, parallel = true)
+        public void third(Ping ping) throws InterruptedException {
+            run();
+        }
+
+        @Handler
+        public void after(Ping ping) {
+            seen.add(done.get());
+            started = new CountDownLatch(3);
+        }
+
+        /**
+         * Waits until all three handlers run at once, so they only finish if they were forked.
+         */
+        private void run() throws InterruptedException {
+            CountDownLatch latch = started;
+            latch.countDown();
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+            Thread.sleep(20);
+            done.incrementAndGet();
+        }
+    }
+
+    static final class Failing implements HandlerList {
+        private final AtomicInteger late = new AtomicInteger();
+
+        @Handler(parallel = true)
+        public void first(Ping ping) {
+            throw new IllegalStateException("first");
+        }
+
+        @Handler(parallel = true)
+        public void second(Ping ping) {
+            throw new IllegalStateException("second");
+        }
+
+        @Handler(parallel = true)
+        public void third(Ping ping) {
+            throw new IllegalStateException("third");
+        }
+
+        @Handler(level = HandlerPriority.LATE)
+        public void late(Ping ping) {
+            late.incrementAndGet();
+        }
+    }
+
+}
@@ -0,0 +1,151 @@
+/**
+ * RPL-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the RPL-LICENSE. <br>
+ * License at: <a href="https://github.com/rubrionmc/.github/blob/main/licensens/RUBRION_PUBLIC">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <leycm@proton.me> <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package net.rubrion.common.api.event.registry;
+
+import net.rubrion.common.api.api.ApiModule;
+import net.rubrion.common.api.event.Event;
+import net.rubrion.common.api.event.handler.*;
+import net.rubrion.common.api.id.NamespacedId;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+
+import java.lang.ref.WeakReference;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests closing subscriptions directly and through their owning module.
+ *
+ * @author LeyCM
+ * @since 1.1.2
+ */
+class SubscriptionTest {
+
+    @Test
+    void closeRemovesTheHandlersOfTheList() {
+        Counter counter = new Counter();
+        Subscription subscription = EventBus.register(counter);
+        EventBus.fire(new Ping(Instant.EPOCH));
+
+        subscription.close();
+        subscription.close();
+        EventBus.fire(new Ping(Instant.EPOCH));
+
+        assertFalse(subscription.isActive());
+        assertEquals(1, counter.calls.get());
+    }
+
+    @Test
+    void unregisterAllClosesEverySubscriptionOfTheOwner() {
+        Module owner = new Module();
+        Counter first = new Counter();
+        Counter second = new Counter();
+        Subscription a = EventBus.register(owner, first);
+        Subscription b = EventBus.register(owner, second);
+
+        EventBus.unregisterAll(owner);
+        EventBus.fire(new Ping(Instant.EPOCH));
+
+        assertFalse(a.isActive());
+        assertFalse(b.isActive());
+        assertEquals(0, first.calls.get() + second.calls.get());
+    }
+
+    @Test
+    void closingEverySubscriptionReleasesTheOwner() throws InterruptedException {
+        WeakReference<Module> owner = registerAndClose();
+        for (int i = 0; i < 50 && owner.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+
+        assertNull(owner.get());
+    }
+
+    private static WeakReference<Module> registerAndClose() {
+        Module owner = new Module();
+        Subscription a = EventBus.register(owner, new Counter());
+        Subscription b = EventBus.register(owner, new Counter());
+        a.close();
+        b.close();
+        return new WeakReference<>(owner);
+    }
+
+    @Test
+    void unregisterAllDuringRegistrationRemovesTheHandlersRegisteredAfterIt() throws Exception {
+        Module owner = new Module();
+        Slow slow = new Slow(owner);
+        Subscription subscription = EventBus.register(owner, slow);
+        slow.unregistering.join(10_000);
+
+        EventBus.fire(new Ping(Instant.EPOCH));
+        assertFalse(slow.unregistering.isAlive());
+        assertFalse(subscription.isActive());
+        assertEquals(0, slow.calls.get());
+    }
+
+    record Ping(Instant timestamp) implements Event { }
+
+    static final class Counter implements HandlerList {
+        private final AtomicInteger calls = new AtomicInteger();
+
+        @Handler
+        public void on(Ping ping) {
+            calls.incrementAndGet();
+        }
+    }
+
+    /**
+     * Handler list whose registrar starts {@link EventBus#unregisterAll(ApiModule)} on another
+     * thread half way through its registration.
+     */
+    static final class Slow implements HandlerList {
+        private final AtomicInteger calls = new AtomicInteger();
+        private final Thread unregistering;
+
+        Slow(ApiModule owner) {
+            this.unregistering = new Thread(() -> EventBus.unregisterAll(owner));
+        }
+
+        @SuppressWarnings("unused")
+        public static final class $Registrar implements HandlerRegistrar<Slow> {
+
+            @Override
+            public void register(Slow list, HandlerRegistrar.Sink sink) {
+                HandlerInfo info = new HandlerInfo(Ping.class, HandlerPriority.NORMAL);
+                sink.handler("first", info, e -> list.calls.incrementAndGet());
+
+                list.unregistering.start();
+                long deadline = System.nanoTime() + 5_000_000_000L;
+                while (list.unregistering.getState() != Thread.State.BLOCKED && list.unregistering.isAlive()
+                        && System.nanoTime() < deadline) Thread.onSpinWait();
+
+                sink.handler("second", info, e -> list.calls.incrementAndGet());
+            }
+        }
+    }
+
+    static final class Module implements ApiModule {
+
+        @Override
+        public NamespacedId loader() {
+            return new NamespacedId("test:module");
+        }
+
+        @Override
+        public Logger logger() {
+            return null;
+        }
+    }
+
+}
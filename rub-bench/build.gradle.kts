@@ -0,0 +1,25 @@
+plugins {
+    id("me.champeau.jmh") version "0.7.2"
+}
+
+dependencies {
+    jmh(project(":api"))
+}
+
+jmh {
+    fork.set(1)
+    warmupIterations.set(3)
+    iterations.set(5)
+    resultFormat.set("JSON")
+    resultsFile.set(layout.buildDirectory.file("results/jmh/results.json"))
+}
+
+tasks.register<JavaExec>("jmhAllocationCheck") {
+    group = "verification"
+    description = "Fails if the steady-state EventBus fire path allocates"
+
+    val jmhJar = tasks.named<Jar>("jmhJar")
+    dependsOn(jmhJar)
+    classpath = files(jmhJar.flatMap { it.archiveFile })
+    mainClass.set("net.rubrion.common.bench.event.AllocationCheck")
+}
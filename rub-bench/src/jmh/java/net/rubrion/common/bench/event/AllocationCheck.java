@@ -0,0 +1,63 @@
+/**
+ * RPL-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the RPL-LICENSE. <br>
+ * License at: <a href="https://github.com/rubrionmc/.github/blob/main/licensens/RUBRION_PUBLIC">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <leycm@proton.me> <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package net.rubrion.common.bench.event;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Collection;
+
+/**
+ * Runs {@link FireAllocationBenchmark} with the GC profiler and fails if any benchmark,
+ * including the pooled fire path, allocates more than {@value #LIMIT} bytes per operation.
+ * <p>
+ * Started by the {@code jmhAllocationCheck} Gradle task.
+ * </p>
+ *
+ * @author LeyCM
+ * @since 1.1.2
+ */
+public final class AllocationCheck {
+    private static final double LIMIT = 0.5;
+
+    private AllocationCheck() { }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(FireAllocationBenchmark.class.getName())
+                .addProfiler(GCProfiler.class)
+                .forks(1)
+                .warmupIterations(3)
+                .measurementIterations(3)
+                .build();
+
+        Collection<RunResult> results = new Runner(options).run();
+        boolean failed = false;
+
+        for (RunResult result : results) {
+            Result<?> alloc = result.getSecondaryResults().get("gc.alloc.rate.norm");
+            if (alloc == null) alloc = result.getSecondaryResults().get("·gc.alloc.rate.norm");
+            if (alloc == null) throw new IllegalStateException("GC profiler reported no allocation rate");
+
+            String name = result.getParams().getBenchmark();
+            System.out.printf("%s: %.3f B/op%n", name, alloc.getScore());
+            if (alloc.getScore() > LIMIT) failed = true;
+        }
+
+        if (failed) throw new IllegalStateException("Fire path allocates more than " + LIMIT + " B/op");
+    }
+
+}
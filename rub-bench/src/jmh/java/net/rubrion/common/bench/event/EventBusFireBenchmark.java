@@ -0,0 +1,129 @@
+/**
+ * RPL-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the RPL-LICENSE. <br>
+ * License at: <a href="https://github.com/rubrionmc/.github/blob/main/licensens/RUBRION_PUBLIC">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <leycm@proton.me> <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package net.rubrion.common.bench.event;
+
+import net.rubrion.common.api.event.Event;
+import net.rubrion.common.api.event.able.Monitorable;
+import net.rubrion.common.api.event.handler.Handler;
+import net.rubrion.common.api.event.handler.HandlerList;
+import net.rubrion.common.api.event.handler.HandlerPriority;
+import net.rubrion.common.api.event.registry.EventBus;
+import net.rubrion.common.api.event.registry.Subscription;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link EventBus#fire(Event)} latency by handler count, priority spread and monitor copies.
+ * <p>
+ * {@code handlers} listeners are registered per trial. With {@code spread} disabled all of them
+ * sit on {@link HandlerPriority#NORMAL}; otherwise they are distributed round robin over
+ * {@link HandlerPriority#EARLY}, {@link HandlerPriority#NORMAL} and {@link HandlerPriority#LATE}.
+ * With {@code monitor} enabled, one additional {@link HandlerPriority#MONITOR} handler forces a
+ * {@link Monitorable#copy()} of the event on every fire.
+ * </p>
+ *
+ * @author LeyCM
+ * @since 1.1.2
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EventBusFireBenchmark {
+
+    @Param({"1", "4", "16", "64"})
+    public int handlers;
+
+    @Param({"false", "true"})
+    public boolean spread;
+
+    @Param({"false", "true"})
+    public boolean monitor;
+
+    private final List<Subscription> subscriptions = new ArrayList<>();
+    private final FireEvent event = new FireEvent();
+
+    @Setup
+    public void setup() {
+        for (int i = 0; i < handlers; i++) {
+            HandlerList listener = !spread ? new NormalListener() : switch (i % 3) {
+                case 0 -> new EarlyListener();
+                case 1 -> new NormalListener();
+                default -> new LateListener();
+            };
+            subscriptions.add(EventBus.register(listener));
+        }
+        if (monitor) subscriptions.add(EventBus.register(new MonitorListener()));
+    }
+
+    @TearDown
+    public void tearDown() {
+        subscriptions.forEach(Subscription::close);
+        subscriptions.clear();
+    }
+
+    @Benchmark
+    public FireEvent fire() {
+        EventBus.fire(event);
+        return event;
+    }
+
+    public static final class FireEvent implements Event, Monitorable<FireEvent> {
+        private final Instant timestamp = Instant.now();
+        long handled;
+
+        @Override
+        public Instant timestamp() {
+            return timestamp;
+        }
+
+        @Override
+        public FireEvent copy() {
+            FireEvent copy = new FireEvent();
+            copy.handled = handled;
+            return copy;
+        }
+    }
+
+    public static final class EarlyListener implements HandlerList {
+        @Handler(level = HandlerPriority.EARLY)
+        public void on(FireEvent event) {
+            event.handled++;
+        }
+    }
+
+    public static final class NormalListener implements HandlerList {
+        @Handler
+        public void on(FireEvent event) {
+            event.handled++;
+        }
+    }
+
+    public static final class LateListener implements HandlerList {
+        @Handler(level = HandlerPriority.LATE)
+        public void on(FireEvent event) {
+            event.handled++;
+        }
+    }
+
+    public static final class MonitorListener implements HandlerList {
+        long seen;
+
+        @Handler(level = HandlerPriority.MONITOR)
+        public void on(FireEvent event) {
+            seen += event.handled;
+        }
+    }
+
+}
@@ -0,0 +1,87 @@
+/**
+ * RPL-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the RPL-LICENSE. <br>
+ * License at: <a href="https://github.com/rubrionmc/.github/blob/main/licensens/RUBRION_PUBLIC">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <leycm@proton.me> <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package net.rubrion.common.bench.event;
+
+import net.rubrion.common.api.event.Event;
+import net.rubrion.common.api.event.handler.Handler;
+import net.rubrion.common.api.event.handler.HandlerList;
+import net.rubrion.common.api.event.handler.HandlerPriority;
+import net.rubrion.common.api.event.registry.EventBus;
+import net.rubrion.common.api.event.registry.Subscription;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link EventBus#register(HandlerList)} followed by {@link Subscription#close()}
+ * while {@code existing} other handlers are already registered for the same event type.
+ * <p>
+ * Each operation registers a listener with three handler methods and closes it again, so the
+ * registry returns to the same state after every operation. The cost grows with the number of
+ * existing handlers because every change copies the handler snapshot.
+ * </p>
+ *
+ * @author LeyCM
+ * @since 1.1.2
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EventBusRegisterBenchmark {
+
+    @Param({"0", "16", "256"})
+    public int existing;
+
+    private final List<Subscription> subscriptions = new ArrayList<>();
+    private final Listener listener = new Listener();
+
+    @Setup
+    public void setup() {
+        for (int i = 0; i < existing; i++) subscriptions.add(EventBus.register(new Listener()));
+    }
+
+    @TearDown
+    public void tearDown() {
+        subscriptions.forEach(Subscription::close);
+        subscriptions.clear();
+    }
+
+    @Benchmark
+    public Subscription registerAndClose() {
+        Subscription subscription = EventBus.register(listener);
+        subscription.close();
+        return subscription;
+    }
+
+    public static final class RegisterEvent implements Event {
+        private final Instant timestamp = Instant.now();
+
+        @Override
+        public Instant timestamp() {
+            return timestamp;
+        }
+    }
+
+    public static final class Listener implements HandlerList {
+        @Handler(level = HandlerPriority.EARLY)
+        public void early(RegisterEvent event) { }
+
+        @Handler
+        public void normal(RegisterEvent event) { }
+
+        @Handler(level = HandlerPriority.LATE)
+        public void late(RegisterEvent event) { }
+    }
+
+}
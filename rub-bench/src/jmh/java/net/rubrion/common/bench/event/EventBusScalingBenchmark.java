@@ -0,0 +1,108 @@
+/**
+ * RPL-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the RPL-LICENSE. <br>
+ * License at: <a href="https://github.com/rubrionmc/.github/blob/main/licensens/RUBRION_PUBLIC">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <leycm@proton.me> <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package net.rubrion.common.bench.event;
+
+import net.rubrion.common.api.event.Event;
+import net.rubrion.common.api.event.handler.Handler;
+import net.rubrion.common.api.event.handler.HandlerList;
+import net.rubrion.common.api.event.handler.HandlerPriority;
+import net.rubrion.common.api.event.registry.EventBus;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Measures {@link EventBus#fire(Event)} throughput from one to eight firing threads.
+ * <p>
+ * The handlers of the bench event are registered once per trial; each thread fires its own
+ * event instance. With a non-blocking registry, the per-thread score should stay flat as
+ * the thread count grows, so the total throughput scales with cores.
+ * </p>
+ *
+ * @author LeyCM
+ * @since 1.1.2
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EventBusScalingBenchmark {
+
+    private static final Listener LISTENER = new Listener();
+
+    static {
+        EventBus.register(LISTENER);
+    }
+
+    @State(Scope.Thread)
+    public static class ThreadEvent {
+        final ScalingEvent event = new ScalingEvent();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public ScalingEvent threads1(ThreadEvent state) {
+        EventBus.fire(state.event);
+        return state.event;
+    }
+
+    @Benchmark
+    @Threads(2)
+    public ScalingEvent threads2(ThreadEvent state) {
+        EventBus.fire(state.event);
+        return state.event;
+    }
+
+    @Benchmark
+    @Threads(4)
+    public ScalingEvent threads4(ThreadEvent state) {
+        EventBus.fire(state.event);
+        return state.event;
+    }
+
+    @Benchmark
+    @Threads(8)
+    public ScalingEvent threads8(ThreadEvent state) {
+        EventBus.fire(state.event);
+        return state.event;
+    }
+
+    public static final class ScalingEvent implements Event {
+        private final Instant timestamp = Instant.now();
+        private long handled;
+
+        @Override
+        public Instant timestamp() {
+            return timestamp;
+        }
+    }
+
+    public static final class Listener implements HandlerList {
+        private final LongAdder late = new LongAdder();
+
+        @Handler(level = HandlerPriority.EARLY)
+        public void early(ScalingEvent event) {
+            event.handled++;
+        }
+
+        @Handler
+        public void normal(ScalingEvent event) {
+            event.handled++;
+        }
+
+        @Handler(level = HandlerPriority.LATE)
+        public void late(ScalingEvent event) {
+            if ((event.handled & 1023) == 0) late.increment();
+        }
+    }
+
+}
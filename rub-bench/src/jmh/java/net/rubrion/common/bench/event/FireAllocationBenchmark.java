@@ -0,0 +1,173 @@
+/**
+ * RPL-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the RPL-LICENSE. <br>
+ * License at: <a href="https://github.com/rubrionmc/.github/blob/main/licensens/RUBRION_PUBLIC">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <leycm@proton.me> <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package net.rubrion.common.bench.event;
+
+import net.rubrion.common.api.event.Event;
+import net.rubrion.common.api.event.able.Poolable;
+import net.rubrion.common.api.event.handler.Handler;
+import net.rubrion.common.api.event.handler.HandlerList;
+import net.rubrion.common.api.event.handler.HandlerPriority;
+import net.rubrion.common.api.event.registry.EventBus;
+import net.rubrion.common.api.event.registry.EventPool;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Steady-state fire path that must not allocate, checked by {@link AllocationCheck}.
+ * <p>
+ * Covers an event type without any handler and one with handlers on every non-monitor
+ * level, in both iterated and compiled dispatch, an event fired one by one to a batch handler,
+ * and a {@link Poolable} event acquired from and recycled into its {@link EventPool} on every fire. Run with {@code -prof gc}; every
+ * benchmark is expected to report about 0 B/op for {@code gc.alloc.rate.norm}.
+ * </p>
+ *
+ * @author LeyCM
+ * @since 1.1.2
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class FireAllocationBenchmark {
+
+    private final UnhandledEvent unhandled = new UnhandledEvent();
+    private final HandledEvent handled = new HandledEvent();
+    private final CompiledEvent compiled = new CompiledEvent();
+    private final BatchedEvent batched = new BatchedEvent();
+    private EventPool<PooledEvent> pool;
+
+    @Setup
+    public void setup() {
+        EventBus.compiled(CompiledEvent.class, true);
+        EventBus.register(new Listener());
+        pool = EventBus.pool(PooledEvent.class, PooledEvent::new);
+    }
+
+    @Benchmark
+    public UnhandledEvent noHandlers() {
+        EventBus.fire(unhandled);
+        return unhandled;
+    }
+
+    @Benchmark
+    public HandledEvent handlers() {
+        EventBus.fire(handled);
+        return handled;
+    }
+
+    @Benchmark
+    public CompiledEvent compiledHandlers() {
+        EventBus.fire(compiled);
+        return compiled;
+    }
+
+    @Benchmark
+    public BatchedEvent batchHandlers() {
+        EventBus.fire(batched);
+        return batched;
+    }
+
+    @Benchmark
+    public long pooledHandlers() {
+        PooledEvent event = pool.acquire();
+        event.handled = 1;
+        EventBus.fire(event);
+        return pool.created();
+    }
+
+    @Benchmark
+    public long age() {
+        return handled.age();
+    }
+
+    public static class BenchEvent implements Event {
+        private final Instant timestamp = Instant.now();
+        long handled;
+
+        @Override
+        public Instant timestamp() {
+            return timestamp;
+        }
+    }
+
+    public static final class UnhandledEvent extends BenchEvent { }
+
+    public static final class HandledEvent extends BenchEvent { }
+
+    public static final class CompiledEvent extends BenchEvent { }
+
+    public static final class BatchedEvent extends BenchEvent { }
+
+    public static final class PooledEvent extends BenchEvent implements Poolable {
+        private boolean retained;
+
+        @Override
+        public void reset() {
+            handled = 0;
+        }
+
+        @Override
+        public void retain() {
+            retained = true;
+        }
+
+        @Override
+        public boolean isRetained() {
+            return retained;
+        }
+    }
+
+    public static final class Listener implements HandlerList {
+
+        @Handler(level = HandlerPriority.EARLY)
+        public void early(HandledEvent event) {
+            event.handled++;
+        }
+
+        @Handler
+        public void normal(HandledEvent event) {
+            event.handled++;
+        }
+
+        @Handler(level = HandlerPriority.LATE)
+        public void late(HandledEvent event) {
+            event.handled++;
+        }
+
+        @Handler(level = HandlerPriority.EARLY)
+        public void early(CompiledEvent event) {
+            event.handled++;
+        }
+
+        @Handler
+        public void normal(CompiledEvent event) {
+            event.handled++;
+        }
+
+        @Handler(level = HandlerPriority.LATE)
+        public void late(CompiledEvent event) {
+            event.handled++;
+        }
+
+        @Handler
+        public void normal(PooledEvent event) {
+            event.handled++;
+        }
+
+        @Handler
+        public void batch(List<BatchedEvent> events) {
+            for (int i = 0, size = events.size(); i < size; i++) events.get(i).handled++;
+        }
+    }
+
+}
@@ -0,0 +1,97 @@
+/**
+ * RPL-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the RPL-LICENSE. <br>
+ * License at: <a href="https://github.com/rubrionmc/.github/blob/main/licensens/RUBRION_PUBLIC">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <leycm@proton.me> <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package net.rubrion.common.bench.event;
+
+import net.rubrion.common.api.event.Event;
+import net.rubrion.common.api.event.exception.ProcessHandlerException;
+import net.rubrion.common.api.event.handler.Handler;
+import net.rubrion.common.api.event.handler.HandlerList;
+import net.rubrion.common.api.event.registry.HandlerInvoker;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Compares the reflective {@link Method#invoke(Object, Object...)} handler path
+ * with the compiled {@link HandlerInvoker} and a plain direct call.
+ *
+ * @author LeyCM
+ * @since 1.1.2
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class HandlerInvokerBenchmark {
+
+    private Listener listener;
+    private BenchEvent event;
+    private Consumer<Event> reflective;
+    private Consumer<Event> compiled;
+
+    @Setup
+    public void setup() throws NoSuchMethodException {
+        listener = new Listener();
+        event = new BenchEvent();
+
+        Method method = Listener.class.getDeclaredMethod("on", BenchEvent.class);
+        method.setAccessible(true);
+
+        reflective = e -> {
+            try { method.invoke(listener, e); }
+            catch (IllegalAccessException | InvocationTargetException ex) {
+                throw new ProcessHandlerException("Fail to Process Handler", ex);
+            }
+        };
+        compiled = HandlerInvoker.of(method, listener);
+    }
+
+    @Benchmark
+    public void direct(Blackhole bh) {
+        listener.on(event);
+        bh.consume(listener.count);
+    }
+
+    @Benchmark
+    public void reflective(Blackhole bh) {
+        reflective.accept(event);
+        bh.consume(listener.count);
+    }
+
+    @Benchmark
+    public void compiled(Blackhole bh) {
+        compiled.accept(event);
+        bh.consume(listener.count);
+    }
+
+    public static final class BenchEvent implements Event {
+        private final Instant timestamp = Instant.now();
+
+        @Override
+        public Instant timestamp() {
+            return timestamp;
+        }
+    }
+
+    public static final class Listener implements HandlerList {
+        private long count;
+
+        @Handler
+        private void on(BenchEvent event) {
+            count++;
+        }
+    }
+
+}
@@ -0,0 +1,190 @@
+/**
+ * RPL-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the RPL-LICENSE. <br>
+ * License at: <a href="https://github.com/rubrionmc/.github/blob/main/licensens/RUBRION_PUBLIC">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <leycm@proton.me> <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package net.rubrion.common.bench.id;
+
+import net.rubrion.common.api.id.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures construction, {@code hashCode}, {@code equals} and {@code compareTo} of the identifier types.
+ * <p>
+ * Every operation works on the next element of a pool of {@value #SIZE} prebuilt values, so
+ * the JIT cannot fold the results. {@code equals} compares two distinct but equal instances and
+ * {@code compareTo} compares against the original value of a different identifier.
+ * Construction benchmarks build from prebuilt raw values to exclude their creation cost.
+ * </p>
+ *
+ * @author LeyCM
+ * @since 1.1.2
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class IdentifierBenchmark {
+
+    static final int SIZE = 1024;
+
+    private final String[] namespacedIdRaw = new String[SIZE];
+    private final NamespacedId[] namespacedId = new NamespacedId[SIZE];
+    private final NamespacedId[] namespacedIdCopy = new NamespacedId[SIZE];
+    private final String[] stringIdRaw = new String[SIZE];
+    private final StringId[] stringId = new StringId[SIZE];
+    private final StringId[] stringIdCopy = new StringId[SIZE];
+    private final int[] integerIdRaw = new int[SIZE];
+    private final IntegerId[] integerId = new IntegerId[SIZE];
+    private final IntegerId[] integerIdCopy = new IntegerId[SIZE];
+    private final long[] longIdRaw = new long[SIZE];
+    private final LongId[] longId = new LongId[SIZE];
+    private final LongId[] longIdCopy = new LongId[SIZE];
+    private final UUID[] uniqueIdRaw = new UUID[SIZE];
+    private final UniqueId[] uniqueId = new UniqueId[SIZE];
+    private final UniqueId[] uniqueIdCopy = new UniqueId[SIZE];
+    private int index;
+
+    @Setup
+    public void setup() {
+        for (int i = 0; i < SIZE; i++) {
+            namespacedIdRaw[i] = "rubrion:bench_" + i;
+            namespacedId[i] = new NamespacedId("rubrion:bench_" + i);
+            namespacedIdCopy[i] = new NamespacedId("rubrion:bench_" + i);
+            stringIdRaw[i] = "bench_" + i;
+            stringId[i] = new StringId("bench_" + i);
+            stringIdCopy[i] = new StringId("bench_" + i);
+            integerIdRaw[i] = i;
+            integerId[i] = new IntegerId(i);
+            integerIdCopy[i] = new IntegerId(i);
+            longIdRaw[i] = i * 31L;
+            longId[i] = new LongId(i * 31L);
+            longIdCopy[i] = new LongId(i * 31L);
+            uniqueIdRaw[i] = new UUID(i, ~i);
+            uniqueId[i] = new UniqueId(new UUID(i, ~i));
+            uniqueIdCopy[i] = new UniqueId(new UUID(i, ~i));
+        }
+    }
+
+    private int next() {
+        return index = (index + 1) & (SIZE - 1);
+    }
+
+    @Benchmark
+    public NamespacedId namespacedIdConstruct() {
+        return new NamespacedId(namespacedIdRaw[next()]);
+    }
+
+    @Benchmark
+    public int namespacedIdHashCode() {
+        return namespacedId[next()].hashCode();
+    }
+
+    @Benchmark
+    public boolean namespacedIdEquals() {
+        int i = next();
+        return namespacedId[i].equals(namespacedIdCopy[i]);
+    }
+
+    @Benchmark
+    public int namespacedIdCompareTo() {
+        int i = next();
+        return namespacedId[i].compareTo(namespacedId[(i + 1) & (SIZE - 1)].original());
+    }
+
+    @Benchmark
+    public StringId stringIdConstruct() {
+        return new StringId(stringIdRaw[next()]);
+    }
+
+    @Benchmark
+    public int stringIdHashCode() {
+        return stringId[next()].hashCode();
+    }
+
+    @Benchmark
+    public boolean stringIdEquals() {
+        int i = next();
+        return stringId[i].equals(stringIdCopy[i]);
+    }
+
+    @Benchmark
+    public int stringIdCompareTo() {
+        int i = next();
+        return stringId[i].compareTo(stringId[(i + 1) & (SIZE - 1)].original());
+    }
+
+    @Benchmark
+    public IntegerId integerIdConstruct() {
+        return new IntegerId(integerIdRaw[next()]);
+    }
+
+    @Benchmark
+    public int integerIdHashCode() {
+        return integerId[next()].hashCode();
+    }
+
+    @Benchmark
+    public boolean integerIdEquals() {
+        int i = next();
+        return integerId[i].equals(integerIdCopy[i]);
+    }
+
+    @Benchmark
+    public int integerIdCompareTo() {
+        int i = next();
+        return integerId[i].compareTo(integerId[(i + 1) & (SIZE - 1)].original());
+    }
+
+    @Benchmark
+    public LongId longIdConstruct() {
+        return new LongId(longIdRaw[next()]);
+    }
+
+    @Benchmark
+    public int longIdHashCode() {
+        return longId[next()].hashCode();
+    }
+
+    @Benchmark
+    public boolean longIdEquals() {
+        int i = next();
+        return longId[i].equals(longIdCopy[i]);
+    }
+
+    @Benchmark
+    public int longIdCompareTo() {
+        int i = next();
+        return longId[i].compareTo(longId[(i + 1) & (SIZE - 1)].original());
+    }
+
+    @Benchmark
+    public UniqueId uniqueIdConstruct() {
+        return new UniqueId(uniqueIdRaw[next()]);
+    }
+
+    @Benchmark
+    public int uniqueIdHashCode() {
+        return uniqueId[next()].hashCode();
+    }
+
+    @Benchmark
+    public boolean uniqueIdEquals() {
+        int i = next();
+        return uniqueId[i].equals(uniqueIdCopy[i]);
+    }
+
+    @Benchmark
+    public int uniqueIdCompareTo() {
+        int i = next();
+        return uniqueId[i].compareTo(uniqueId[(i + 1) & (SIZE - 1)].original());
+    }
+
+}
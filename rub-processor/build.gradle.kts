@@ -0,0 +1,16 @@
+// Annotation processor generating HandlerRegistrar classes for @Handler methods.
+// Consumers add it with annotationProcessor(project(":processor")); it has no dependency
+// on :api because it only works with the type names of the annotated sources. The tests
+// compile sample handler lists against :api and register them on its EventBus.
+dependencies {
+    testCompileOnly(libs.jetanno)
+    testImplementation(project(":api"))
+    testImplementation(libs.slf4j)
+    testImplementation(platform("org.junit:junit-bom:5.11.3"))
+    testImplementation("org.junit.jupiter:junit-jupiter")
+    testRuntimeOnly("org.junit.platform:junit-platform-launcher")
+}
+
+tasks.test {
+    useJUnitPlatform()
+}
@@ -0,0 +1,291 @@
+/**
+ * RPL-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the RPL-LICENSE. <br>
+ * License at: <a href="https://github.com/rubrionmc/.github/blob/main/licensens/RUBRION_PUBLIC">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <leycm@proton.me> <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package net.rubrion.common.processor;
+
+import javax.annotation.processing.*;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.TypeVariable;
+import javax.lang.model.type.WildcardType;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.*;
+
+/**
+ * Annotation processor generating a {@code HandlerRegistrar} for every {@code HandlerList}
+ * class declaring {@code @Handler} methods.
+ * <p>
+ * The generated registrar is named after the binary name of the handler list followed by
+ * {@code $$Registrar} and passes every handler to the event bus as a lambda calling the
+ * method directly, together with a {@code HandlerInfo} built from the annotation values at
+ * compile time. The event bus picks it up automatically, so registering the handler list
+ * needs neither {@code getDeclaredMethods()} nor {@code setAccessible}.
+ * </p>
+ * <p>
+ * Classes the registrar cannot call into, such as private classes or classes with private
+ * handler methods, and classes with handler methods declaring checked exceptions are skipped
+ * with a note and keep being registered by reflection. A handler parameter declared as a type
+ * variable of the method is handled as its bound, like the reflective scan sees it after
+ * erasure; type variables of the class and bounds made of several types are left to reflection
+ * as well.
+ * Invalid handler parameters are reported as compile errors.
+ * </p>
+ *
+ * @author LeyCM
+ * @since 1.1.2
+ */
+@SupportedAnnotationTypes(HandlerProcessor.HANDLER)
+public final class HandlerProcessor extends AbstractProcessor {
+    static final String HANDLER = "net.rubrion.common.api.event.handler.Handler";
+    private static final String HANDLER_LIST = "net.rubrion.common.api.event.handler.HandlerList";
+    private static final String HANDLER_INFO = "net.rubrion.common.api.event.handler.HandlerInfo";
+    private static final String HANDLER_PRIORITY = "net.rubrion.common.api.event.handler.HandlerPriority";
+    private static final String REGISTRAR = "net.rubrion.common.api.event.handler.HandlerRegistrar";
+    private static final String EVENT = "net.rubrion.common.api.event.Event";
+    private static final String MARKERS = "net.rubrion.common.api.event.able";
+    private static final String SUFFIX = "$$Registrar";
+
+    private Elements elements;
+    private Types types;
+    private Messager messager;
+
+    @Override
+    public synchronized void init(ProcessingEnvironment env) {
+        super.init(env);
+        this.elements = env.getElementUtils();
+        this.types = env.getTypeUtils();
+        this.messager = env.getMessager();
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment round) {
+        TypeElement handler = elements.getTypeElement(HANDLER);
+        if (handler == null || annotations.isEmpty()) return false;
+
+        Map<TypeElement, List<ExecutableElement>> lists = new LinkedHashMap<>();
+        for (Element element : round.getElementsAnnotatedWith(handler)) {
+            if (element.getKind() != ElementKind.METHOD) continue;
+            lists.computeIfAbsent((TypeElement) element.getEnclosingElement(), unused -> new ArrayList<>())
+                    .add((ExecutableElement) element);
+        }
+
+        lists.forEach(this::generate);
+        return false;
+    }
+
+    /**
+     * Generates the registrar of one handler list class.
+     *
+     * @param list the class declaring the handler methods
+     * @param methods the annotated methods of the class
+     */
+    private void generate(TypeElement list, List<ExecutableElement> methods) {
+        TypeElement handlerList = elements.getTypeElement(HANDLER_LIST);
+        if (!types.isAssignable(types.erasure(list.asType()), types.erasure(handlerList.asType()))) {
+            messager.printMessage(Diagnostic.Kind.WARNING,
+                    "@Handler methods of a class not implementing HandlerList are never registered", list);
+            return;
+        }
+        if (!accessible(list)) {
+            note(list, "class is not accessible from its package");
+            return;
+        }
+
+        List<String> lines = new ArrayList<>();
+        for (ExecutableElement method : methods) {
+            if (method.getParameters().size() != 1) continue;
+            if (method.getModifiers().contains(Modifier.PRIVATE)) {
+                note(method, "handler method is private");
+                return;
+            }
+            if (throwsChecked(method)) {
+                note(method, "handler method declares checked exceptions");
+                return;
+            }
+
+            String line = handler(list, method);
+            if (line == null) return;
+            lines.add(line);
+        }
+
+        write(list, lines);
+    }
+
+    /**
+     * Builds the sink call registering one handler method.
+     *
+     * @param list the class declaring the method
+     * @param method the handler method
+     * @return the generated statement, or {@code null} if an error or note was reported
+     */
+    private String handler(TypeElement list, ExecutableElement method) {
+        TypeMirror parameter = method.getParameters().get(0).asType();
+        TypeElement listType = elements.getTypeElement(List.class.getName());
+        boolean batch = types.isSameType(types.erasure(parameter), types.erasure(listType.asType()));
+
+        if (!batch && parameter instanceof TypeVariable variable) {
+            if (((TypeParameterElement) variable.asElement()).getGenericElement() != method) {
+                note(method, "handler parameter is a type variable of the class");
+                return null;
+            }
+            if (variable.getUpperBound().getKind() == TypeKind.INTERSECTION) {
+                note(method, "handler parameter is bound by several types");
+                return null;
+            }
+            parameter = types.erasure(variable);
+        }
+
+        TypeMirror event = batch ? element(parameter) : parameter;
+        if (batch && (event == null || event.getKind() != TypeKind.DECLARED)) {
+            error(method, "Batch handler parameter must be a List of an event type");
+            return null;
+        }
+        if (event.getKind() != TypeKind.DECLARED) {
+            error(method, "Handler method parameter must be a subclass of Event or a marker interface of " + MARKERS);
+            return null;
+        }
+
+        TypeMirror erased = types.erasure(event);
+        Element eventElement = types.asElement(erased);
+        TypeMirror eventType = types.erasure(elements.getTypeElement(EVENT).asType());
+        boolean marker = eventElement.getKind() == ElementKind.INTERFACE &&
+                elements.getPackageOf(eventElement).getQualifiedName().contentEquals(MARKERS);
+        if (!types.isAssignable(erased, eventType) && !marker) {
+            error(method, "Handler method parameter must be a subclass of Event or a marker interface of " + MARKERS);
+            return null;
+        }
+
+        String target = method.getModifiers().contains(Modifier.STATIC) ? canonical(list) : "list";
+        String name = method.getSimpleName().toString();
+        String info = "new " + HANDLER_INFO + "(" + erased + ".class, " + HANDLER_PRIORITY + "." + level(method) +
+                ", " + flag(method, "ignoreCanceled") + ", " + flag(method, "parallel") + ")";
+
+        return batch
+                ? "sink.batch(\"" + name + "\", " + info + ", es -> " + target + "." + name + "((java.util.List) es));"
+                : "sink.handler(\"" + name + "\", " + info + ", e -> " + target + "." + name + "((" + erased + ") e));";
+    }
+
+    private void write(TypeElement list, List<String> lines) {
+        String packageName = elements.getPackageOf(list).getQualifiedName().toString();
+        String binary = elements.getBinaryName(list).toString();
+        String simple = (packageName.isEmpty() ? binary : binary.substring(packageName.length() + 1)) + SUFFIX;
+        String type = canonical(list) + wildcards(list);
+
+        StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) source.append("package ").append(packageName).append(";\n\n");
+        source.append("@javax.annotation.processing.Generated(\"").append(HandlerProcessor.class.getName()).append("\")\n")
+                .append("@SuppressWarnings({\"unchecked\", \"rawtypes\"})\n")
+                .append("public final class ").append(simple).append(" implements ")
+                .append(REGISTRAR).append('<').append(type).append("> {\n\n")
+                .append("    @Override\n")
+                .append("    public void register(").append(type).append(" list, ")
+                .append(REGISTRAR).append(".Sink sink) {\n");
+        for (String line : lines) source.append("        ").append(line).append('\n');
+        source.append("    }\n\n}\n");
+
+        try (Writer writer = processingEnv.getFiler().createSourceFile(binary + SUFFIX, list).openWriter()) {
+            writer.write(source.toString());
+        } catch (IOException ex) {
+            error(list, "Fail to write handler registrar: " + ex.getMessage());
+        }
+    }
+
+    /**
+     * Returns the element type of a {@code List} parameter.
+     *
+     * @param parameter the list type
+     * @return the element type, the upper bound for {@code ? extends} wildcards, or {@code null} for raw lists
+     */
+    private TypeMirror element(TypeMirror parameter) {
+        if (!(parameter instanceof DeclaredType declared) || declared.getTypeArguments().size() != 1) return null;
+
+        TypeMirror element = declared.getTypeArguments().get(0);
+        if (element instanceof WildcardType wildcard) return wildcard.getExtendsBound();
+        return element;
+    }
+
+    private boolean throwsChecked(ExecutableElement method) {
+        TypeMirror runtime = elements.getTypeElement(RuntimeException.class.getName()).asType();
+        TypeMirror error = elements.getTypeElement(Error.class.getName()).asType();
+        for (TypeMirror thrown : method.getThrownTypes())
+            if (!types.isAssignable(thrown, runtime) && !types.isAssignable(thrown, error)) return true;
+        return false;
+    }
+
+    private String level(ExecutableElement method) {
+        Object value = value(method, "level");
+        return value == null ? "NORMAL" : ((VariableElement) value).getSimpleName().toString();
+    }
+
+    private boolean flag(ExecutableElement method, String name) {
+        Object value = value(method, name);
+        return value != null && (Boolean) value;
+    }
+
+    /**
+     * Reads an explicitly set attribute of the {@code @Handler} annotation of a method.
+     *
+     * @param method the annotated method
+     * @param name the attribute name
+     * @return the attribute value, or {@code null} if the attribute uses its default
+     */
+    private Object value(ExecutableElement method, String name) {
+        for (AnnotationMirror mirror : method.getAnnotationMirrors()) {
+            if (!((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().contentEquals(HANDLER)) continue;
+            for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : mirror.getElementValues().entrySet())
+                if (entry.getKey().getSimpleName().contentEquals(name)) return entry.getValue().getValue();
+        }
+        return null;
+    }
+
+    /**
+     * Checks if a generated class in the same package can reference the given class.
+     */
+    private static boolean accessible(TypeElement type) {
+        for (Element e = type; e instanceof TypeElement t; e = t.getEnclosingElement()) {
+            if (t.getModifiers().contains(Modifier.PRIVATE)) return false;
+            if (t.getNestingKind() == NestingKind.LOCAL || t.getNestingKind() == NestingKind.ANONYMOUS) return false;
+            if (t.getNestingKind() == NestingKind.MEMBER && !t.getModifiers().contains(Modifier.STATIC)
+                    && t.getKind() == ElementKind.CLASS) return false;
+        }
+        return true;
+    }
+
+    private static String canonical(TypeElement type) {
+        return type.getQualifiedName().toString();
+    }
+
+    private static String wildcards(TypeElement type) {
+        int count = type.getTypeParameters().size();
+        return count == 0 ? "" : "<" + String.join(", ", Collections.nCopies(count, "?")) + ">";
+    }
+
+    private void note(Element element, String reason) {
+        messager.printMessage(Diagnostic.Kind.NOTE,
+                "No handler registrar generated, registered by reflection instead: " + reason, element);
+    }
+
+    private void error(Element element, String message) {
+        messager.printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+
+}
@@ -0,0 +1,157 @@
+/**
+ * RPL-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the RPL-LICENSE. <br>
+ * License at: <a href="https://github.com/rubrionmc/.github/blob/main/licensens/RUBRION_PUBLIC">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <leycm@proton.me> <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package net.rubrion.common.processor;
+
+import net.rubrion.common.api.event.Event;
+import net.rubrion.common.api.event.handler.HandlerList;
+import net.rubrion.common.api.event.registry.EventBus;
+import net.rubrion.common.api.event.registry.Subscription;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.*;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests compiling handler lists with the {@link HandlerProcessor} and registering them through
+ * the generated registrar.
+ *
+ * @author LeyCM
+ * @since 1.1.2
+ */
+class HandlerProcessorTest {
+    private static final String SAMPLE = """
+            package sample;
+
+            import net.rubrion.common.api.event.Event;
+            import net.rubrion.common.api.event.handler.Handler;
+            import net.rubrion.common.api.event.handler.HandlerList;
+            import java.time.Instant;
+            import java.util.function.BooleanSupplier;
+
+            public class Sample implements HandlerList, BooleanSupplier {
+                public record Ping(Instant timestamp) implements Event { }
+
+                private boolean generated;
+                private int events;
+
+                @Handler
+                public void on(Ping ping) {
+                    generated = StackWalker.getInstance().walk(frames ->
+                            frames.anyMatch(frame -> frame.getClassName().endsWith("$$Registrar")));
+                }
+
+                @Handler
+                public <E extends Event> void any(E event) {
+                    events++;
+                }
+
+                @Override
+                public boolean getAsBoolean() {
+                    return generated && events == 1;
+                }
+            }
+            """;
+
+    @Test
+    void generatedRegistrarIsUsedByTheEventBus(@TempDir Path out) throws Exception {
+        Compilation compilation = compile(out, "sample.Sample", SAMPLE);
+        assertTrue(compilation.success(), compilation::report);
+        assertTrue(Files.exists(out.resolve("sample/Sample$$Registrar.class")));
+
+        try (URLClassLoader loader = new URLClassLoader(new URL[] {out.toUri().toURL()}, getClass().getClassLoader())) {
+            HandlerList sample = (HandlerList) loader.loadClass("sample.Sample").getConstructor().newInstance();
+            Event ping = (Event) loader.loadClass("sample.Sample$Ping").getConstructor(Instant.class).newInstance(Instant.EPOCH);
+
+            Subscription subscription = EventBus.register(sample);
+            try {
+                EventBus.fire(ping);
+            } finally {
+                subscription.close();
+            }
+            assertTrue(((BooleanSupplier) sample).getAsBoolean());
+        }
+    }
+
+    @Test
+    void classTypeVariablesAreLeftToReflection(@TempDir Path out) {
+        Compilation compilation = compile(out, "sample.Generic", """
+                package sample;
+
+                import net.rubrion.common.api.event.Event;
+                import net.rubrion.common.api.event.handler.Handler;
+                import net.rubrion.common.api.event.handler.HandlerList;
+
+                public class Generic<E extends Event> implements HandlerList {
+
+                    @Handler
+                    public void on(E event) { }
+                }
+                """);
+
+        assertTrue(compilation.success(), compilation::report);
+        assertFalse(Files.exists(out.resolve("sample/Generic$$Registrar.class")));
+        assertTrue(compilation.report().contains("type variable of the class"), compilation::report);
+    }
+
+    @Test
+    void invalidParametersAreCompileErrors(@TempDir Path out) {
+        Compilation compilation = compile(out, "sample.Invalid", """
+                package sample;
+
+                import net.rubrion.common.api.event.handler.Handler;
+                import net.rubrion.common.api.event.handler.HandlerList;
+
+                public class Invalid implements HandlerList {
+
+                    @Handler
+                    public void on(String text) { }
+                }
+                """);
+
+        assertFalse(compilation.success());
+        assertTrue(compilation.report().contains("Handler method parameter must be a subclass of Event"), compilation::report);
+    }
+
+    private static Compilation compile(Path out, String name, String source) {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        JavaFileObject file = new SimpleJavaFileObject(URI.create("string:///" + name.replace('.', '/') + ".java"),
+                JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return source;
+            }
+        };
+
+        List<String> options = List.of("-d", out.toString(), "-classpath", System.getProperty("java.class.path"));
+        JavaCompiler.CompilationTask task = compiler.getTask(null, null, diagnostics, options, null, List.of(file));
+        task.setProcessors(List.of(new HandlerProcessor()));
+        boolean success = task.call();
+
+        StringBuilder report = new StringBuilder();
+        for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics())
+            report.append(diagnostic.getKind()).append(": ").append(diagnostic.getMessage(null)).append('\n');
+        return new Compilation(success, report.toString());
+    }
+
+    private record Compilation(boolean success, String report) { }
+
+}
@@ -41,5 +41,9 @@ pluginManagement {
 rootProject.name = "rub-common"
 
 include("api")
+include("bench")
+include("processor")
 
-project(":api").projectDir = file("rub-api")
\ No newline at end of file
+project(":api").projectDir = file("rub-api")
+project(":bench").projectDir = file("rub-bench")
+project(":processor").projectDir = file("rub-processor")
\ No newline at end of file